@@ -12,6 +12,7 @@ package net.rubrion.config.api;
 
 import net.rubrion.common.api.api.ApiModule;
 import net.rubrion.config.api.config.Config;
+import net.rubrion.config.api.config.ConfigOptions;
 import net.rubrion.config.api.exception.ConfigReadException;
 
 import java.nio.file.Path;
@@ -53,4 +54,32 @@ public interface ConfigApiModule extends ApiModule {
      */
     Config read(Path path);
 
+    /**
+     * Reads a configuration file from the specified filename using custom options.
+     *
+     * @param filename the name of the configuration file to read
+     * @param options the options controlling how the configuration persists changes
+     * @return the loaded {@link Config} object containing the configuration data
+     * @throws ConfigReadException if the file cannot be read or parsed
+     * @throws IllegalArgumentException if the filename is null or empty
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    Config read(String filename, ConfigOptions options);
+
+    /**
+     * Reads a configuration file from the specified file path using custom options.
+     *
+     * @param path the full path to the configuration file to read
+     * @param options the options controlling how the configuration persists changes
+     * @return the loaded {@link Config} object containing the configuration data
+     * @throws ConfigReadException if the file cannot be read or parsed
+     * @throws IllegalArgumentException if the path is null or invalid
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    Config read(Path path, ConfigOptions options);
+
 }
\ No newline at end of file
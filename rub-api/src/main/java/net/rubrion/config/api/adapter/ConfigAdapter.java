@@ -11,12 +11,17 @@
 package net.rubrion.config.api.adapter;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 /**
  * Adapter interface for handling different configuration file formats.
  * Implementations of this interface provide read/write capabilities for
  * various configuration formats while preserving structure and comments.
+ * <p>
+ * A single adapter instance serves every configuration of its format, so implementations
+ * must be safe for concurrent use: {@code read} and {@code write} may be called from
+ * several threads at the same time.
  *
  * @author LeyCM
  * @since 2.0.2
@@ -57,6 +62,26 @@ public interface ConfigAdapter {
      */
     String write(String current, Map<String, Object> data) throws IOException;
 
+    /**
+     * Writes configuration data straight to a character stream instead of building the
+     * whole document as a string. Adapters for formats that produce large documents
+     * should override this to serialize incrementally, so memory use stays bounded by
+     * the buffer size. The default implementation writes the result of
+     * {@link #write(String, Map)}.
+     *
+     * @param current The current file content used as a base for preserving comments and structure
+     * @param data The configuration data to write, organized as a nested Map structure
+     * @param out The stream receiving the document, not closed by this method
+     * @throws IOException if the data cannot be written due to format constraints,
+     *         invalid data structure or an error of the underlying stream
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default void write(String current, Map<String, Object> data, Writer out) throws IOException {
+        out.write(write(current, data));
+    }
+
     /**
      * Updates a single value in the configuration while preserving all other content,
      * including comments, formatting, and unrelated configuration values.
@@ -22,6 +22,14 @@ package net.rubrion.config.api.adapter;
  */
 public interface TypeAdapter<T> {
 
+    /**
+     * Sentinel returned by {@link #tryFromConfig(Object)} if a value cannot be converted.
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    Object FAILED = new Object();
+
     /**
      * Converts a configuration representation to a Java object.
      * This method deserializes a configuration value (typically from a config file)
@@ -38,6 +46,26 @@ public interface TypeAdapter<T> {
      */
     T fromConfig(Object configValue);
 
+    /**
+     * Converts a configuration representation to a Java object without throwing.
+     * Adapters whose conversion can fail on malformed input should override this to
+     * detect the failure up front, as the default implementation only catches the
+     * exception of {@link #fromConfig(Object)}.
+     *
+     * @param configValue the configuration value to convert
+     * @return the converted Java object of type T, or {@link #FAILED} if the value cannot be converted
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default Object tryFromConfig(Object configValue) {
+        try {
+            return fromConfig(configValue);
+        } catch (RuntimeException e) {
+            return FAILED;
+        }
+    }
+
     /**
      * Converts a Java object to its configuration representation.
      * This method serializes a Java object into a format suitable for storage
@@ -75,4 +75,19 @@ public interface TypeAdapterRegistry {
      * @since 2.0.2
      */
     <T> T convert(Object value, Class<T> targetType);
+
+    /**
+     * Converts a value to the specified target type without throwing.
+     * Values that already are of the target type are returned as they are.
+     *
+     * @param value the value to be converted
+     * @param targetType the class object representing the target type
+     * @return the converted value, or {@link TypeAdapter#FAILED} if no adapter is found
+     *         for the target type or the value cannot be converted
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see TypeAdapter#tryFromConfig(Object)
+     */
+    Object tryConvert(Object value, Class<?> targetType);
 }
\ No newline at end of file
@@ -13,12 +13,13 @@ package net.rubrion.config.api.config;
 import net.rubrion.config.api.ConfigApiModule;
 import net.rubrion.config.api.ConfigApiProvider;
 import net.rubrion.config.api.exception.ConfigReadException;
-import net.rubrion.config.api.field.Field;
-import net.rubrion.config.api.field.FieldList;
-import net.rubrion.config.api.field.FieldSection;
+import net.rubrion.config.api.exception.ConfigSaveException;
+import net.rubrion.config.api.field.*;
 
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Main configuration interface providing type-safe access to configuration values.
@@ -61,6 +62,39 @@ public interface Config {
         return ConfigApiProvider.get().read(path);
     }
 
+    /**
+     * Reads a configuration file from the default configuration directory using custom options.
+     *
+     * @param filename the name of the configuration file to read
+     * @param options the options controlling how the configuration persists changes
+     * @return a Config instance containing the parsed configuration data
+     * @throws ConfigReadException if the file cannot be read or parsed
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see ConfigApiModule#read(String, ConfigOptions)
+     */
+    static Config read(String filename, ConfigOptions options) {
+        return ConfigApiProvider.get().read(filename, options);
+    }
+
+    /**
+     * Reads a configuration file from the specified file path using custom options.
+     *
+     * @param path the full path to the configuration file
+     * @param options the options controlling how the configuration persists changes
+     * @return a Config instance containing the parsed configuration data
+     * @throws IllegalArgumentException if the path is null or invalid
+     * @throws ConfigReadException if the file cannot be read or parsed
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see ConfigApiModule#read(Path, ConfigOptions)
+     */
+    static Config read(Path path, ConfigOptions options) {
+        return ConfigApiProvider.get().read(path, options);
+    }
+
     /**
      * Retrieves a configuration value by key with type safety.
      * Supports dot notation for nested keys (e.g., "database.host").
@@ -74,7 +108,24 @@ public interface Config {
      * @author LeyCM
      * @since 2.0.2
      */
-    <T> Optional<T> get(String key, Class<T> type);
+    default <T> Optional<T> get(String key, Class<T> type) {
+        return get(ConfigPath.of(key), type);
+    }
+
+    /**
+     * Retrieves a configuration value by a pre-parsed path with type safety.
+     *
+     * @param <T> the type of the configuration value
+     * @param path the configuration path
+     * @param type the expected class type of the value
+     * @return an Optional containing the value if present and of correct type, empty otherwise
+     * @throws IllegalArgumentException if path or type is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #get(String, Class)
+     */
+    <T> Optional<T> get(ConfigPath path, Class<T> type);
 
     /**
      * Retrieves a configuration value or returns a default value if not present.
@@ -89,7 +140,149 @@ public interface Config {
      * @author LeyCM
      * @since 2.0.2
      */
-    <T> T getOr(String key, Class<T> type, T defaultValue);
+    default <T> T getOr(String key, Class<T> type, T defaultValue) {
+        return getOr(ConfigPath.of(key), type, defaultValue);
+    }
+
+    /**
+     * Retrieves a configuration value by a pre-parsed path or returns a default value if not present.
+     *
+     * @param <T> the type of the configuration value
+     * @param path the configuration path
+     * @param type the expected class type of the value
+     * @param defaultValue the default value to return if the key doesn't exist or is of wrong type
+     * @return the configuration value if present and of correct type, otherwise the defaultValue
+     * @throws IllegalArgumentException if path or type is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getOr(String, Class, Object)
+     */
+    <T> T getOr(ConfigPath path, Class<T> type, T defaultValue);
+
+    /**
+     * Retrieves an int value without boxing or allocating.
+     * A stored {@link Number} is read directly; other values are converted like
+     * {@link #get(String, Class)} does.
+     *
+     * @param key the configuration key (supports dot notation like "database.port")
+     * @param defaultValue the value to return if the key doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default int getInt(String key, int defaultValue) {
+        return getInt(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Retrieves an int value by a pre-parsed path without boxing or allocating.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value to return if the path doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getInt(String, int)
+     */
+    int getInt(ConfigPath path, int defaultValue);
+
+    /**
+     * Retrieves a long value without boxing or allocating.
+     * A stored {@link Number} is read directly; other values are converted like
+     * {@link #get(String, Class)} does.
+     *
+     * @param key the configuration key (supports dot notation like "database.port")
+     * @param defaultValue the value to return if the key doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default long getLong(String key, long defaultValue) {
+        return getLong(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Retrieves a long value by a pre-parsed path without boxing or allocating.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value to return if the path doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getLong(String, long)
+     */
+    long getLong(ConfigPath path, long defaultValue);
+
+    /**
+     * Retrieves a double value without boxing or allocating.
+     * A stored {@link Number} is read directly; other values are converted like
+     * {@link #get(String, Class)} does.
+     *
+     * @param key the configuration key (supports dot notation like "database.port")
+     * @param defaultValue the value to return if the key doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default double getDouble(String key, double defaultValue) {
+        return getDouble(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Retrieves a double value by a pre-parsed path without boxing or allocating.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value to return if the path doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getDouble(String, double)
+     */
+    double getDouble(ConfigPath path, double defaultValue);
+
+    /**
+     * Retrieves a boolean value without boxing or allocating.
+     * A stored {@link Boolean} is read directly; other values are converted like
+     * {@link #get(String, Class)} does.
+     *
+     * @param key the configuration key (supports dot notation like "database.port")
+     * @param defaultValue the value to return if the key doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default boolean getBoolean(String key, boolean defaultValue) {
+        return getBoolean(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Retrieves a boolean value by a pre-parsed path without boxing or allocating.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value to return if the path doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getBoolean(String, boolean)
+     */
+    boolean getBoolean(ConfigPath path, boolean defaultValue);
 
     /**
      * Gets a reactive field that always reflects the current configuration value.
@@ -104,7 +297,24 @@ public interface Config {
      * @author LeyCM
      * @since 2.0.2
      */
-    <T> Field<T> getField(String key, Class<T> type);
+    default <T> Field<T> getField(String key, Class<T> type) {
+        return getField(ConfigPath.of(key), type);
+    }
+
+    /**
+     * Gets a reactive field bound to a pre-parsed path.
+     *
+     * @param <T> the type of the field value
+     * @param path the configuration path
+     * @param type the expected class type of the field value
+     * @return a Field instance that can get/set the value reactively
+     * @throws IllegalArgumentException if path or type is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getField(String, Class)
+     */
+    <T> Field<T> getField(ConfigPath path, Class<T> type);
 
     /**
      * Gets a reactive field for a list of configuration values.
@@ -118,7 +328,24 @@ public interface Config {
      * @author LeyCM
      * @since 2.0.2
      */
-    <T> FieldList<T> getFieldList(String key, Class<T> elementType);
+    default <T> FieldList<T> getFieldList(String key, Class<T> elementType) {
+        return getFieldList(ConfigPath.of(key), elementType);
+    }
+
+    /**
+     * Gets a reactive field for a list of configuration values bound to a pre-parsed path.
+     *
+     * @param <T> the type of list elements
+     * @param path the configuration path of the list
+     * @param elementType the expected class type of list elements
+     * @return a FieldList instance for managing the list reactively
+     * @throws IllegalArgumentException if path or elementType is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getFieldList(String, Class)
+     */
+    <T> FieldList<T> getFieldList(ConfigPath path, Class<T> elementType);
 
     /**
      * Gets a reactive field for a configuration section (nested configuration).
@@ -130,10 +357,151 @@ public interface Config {
      * @author LeyCM
      * @since 2.0.2
      */
-    FieldSection getFieldSection(String key);
+    default FieldSection getFieldSection(String key) {
+        return getFieldSection(ConfigPath.of(key));
+    }
+
+    /**
+     * Gets a reactive field for a configuration section bound to a pre-parsed path.
+     *
+     * @param path the configuration path of the section
+     * @return a FieldSection instance for managing the configuration section reactively
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getFieldSection(String)
+     */
+    FieldSection getFieldSection(ConfigPath path);
+
+    /**
+     * Gets a reactive field that holds an int value in a primitive slot.
+     * Reading the field costs a single field read; the slot is refreshed when the
+     * configuration is reloaded or the key is set.
+     *
+     * @param key the configuration key
+     * @param defaultValue the value the field holds while the key is absent or not convertible
+     * @return an IntField bound to the key
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default IntField getIntField(String key, int defaultValue) {
+        return getIntField(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Gets a reactive field that holds an int value of a pre-parsed path in a primitive slot.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value the field holds while the path is absent or not convertible
+     * @return an IntField bound to the path
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getIntField(String, int)
+     */
+    IntField getIntField(ConfigPath path, int defaultValue);
+
+    /**
+     * Gets a reactive field that holds a long value in a primitive slot.
+     * Reading the field costs a single field read; the slot is refreshed when the
+     * configuration is reloaded or the key is set.
+     *
+     * @param key the configuration key
+     * @param defaultValue the value the field holds while the key is absent or not convertible
+     * @return a LongField bound to the key
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default LongField getLongField(String key, long defaultValue) {
+        return getLongField(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Gets a reactive field that holds a long value of a pre-parsed path in a primitive slot.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value the field holds while the path is absent or not convertible
+     * @return a LongField bound to the path
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getLongField(String, long)
+     */
+    LongField getLongField(ConfigPath path, long defaultValue);
+
+    /**
+     * Gets a reactive field that holds a double value in a primitive slot.
+     * Reading the field costs a single field read; the slot is refreshed when the
+     * configuration is reloaded or the key is set.
+     *
+     * @param key the configuration key
+     * @param defaultValue the value the field holds while the key is absent or not convertible
+     * @return a DoubleField bound to the key
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default DoubleField getDoubleField(String key, double defaultValue) {
+        return getDoubleField(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Gets a reactive field that holds a double value of a pre-parsed path in a primitive slot.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value the field holds while the path is absent or not convertible
+     * @return a DoubleField bound to the path
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getDoubleField(String, double)
+     */
+    DoubleField getDoubleField(ConfigPath path, double defaultValue);
+
+    /**
+     * Gets a reactive field that holds a boolean value in a primitive slot.
+     * Reading the field costs a single field read; the slot is refreshed when the
+     * configuration is reloaded or the key is set.
+     *
+     * @param key the configuration key
+     * @param defaultValue the value the field holds while the key is absent or not convertible
+     * @return a BooleanField bound to the key
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default BooleanField getBooleanField(String key, boolean defaultValue) {
+        return getBooleanField(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Gets a reactive field that holds a boolean value of a pre-parsed path in a primitive slot.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value the field holds while the path is absent or not convertible
+     * @return a BooleanField bound to the path
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getBooleanField(String, boolean)
+     */
+    BooleanField getBooleanField(ConfigPath path, boolean defaultValue);
 
     /**
      * Sets a value in the configuration and automatically saves changes to disk.
+     * In write-behind mode the change is only applied in memory and persisted
+     * by the next flush.
      *
      * @param key the configuration key
      * @param value the value to set (must be serializable)
@@ -142,16 +510,83 @@ public interface Config {
      * @author LeyCM
      * @since 2.0.2
      */
-    void set(String key, Object value);
+    default void set(String key, Object value) {
+        set(ConfigPath.of(key), value);
+    }
+
+    /**
+     * Sets a value at a pre-parsed path and automatically saves changes to disk.
+     *
+     * @param path the configuration path
+     * @param value the value to set (must be serializable)
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #set(String, Object)
+     */
+    void set(ConfigPath path, Object value);
 
     /**
-     * Reloads the configuration from disk, discarding any unsaved changes.
+     * Applies a batch of changes as a single transaction. Every {@link #set(String, Object)},
+     * {@link FieldList#add(Object)}, {@link FieldList#remove(Object)} and {@link FieldSection#set(Object)}
+     * call made on this configuration inside the editor only updates the in-memory values;
+     * the configuration is serialized and written once after the editor returns.
+     * If the editor or the final save throws, all changes of the batch are rolled back
+     * and the exception is rethrown. Nested calls join the outermost batch.
+     *
+     * @param editor the callback applying the changes to this configuration
+     * @throws IllegalArgumentException if editor is null
+     * @throws ConfigSaveException if the batch cannot be written
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    void edit(Consumer<Config> editor);
+
+    /**
+     * Gets a read-only view of the configuration as it is right now. Later changes and
+     * reloads do not affect the view, and modifying it throws an exception. In
+     * {@link ConfigOptions#isConcurrent() concurrent} mode taking a snapshot costs
+     * nothing; otherwise the current data is copied.
+     *
+     * @return a stable, read-only section over the whole configuration
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see ConfigOptions#isConcurrent()
+     */
+    ConfigSection snapshot();
+
+    /**
+     * Reloads the configuration from disk. Changes still pending in write-behind mode are
+     * written first, so no value set through this configuration is lost. If the file
+     * cannot be read or parsed, the configuration is left untouched.
+     *
+     * @throws ConfigReadException if the file cannot be read or parsed
      *
      * @author LeyCM
      * @since 2.0.2
      */
     void reload();
 
+    /**
+     * Reloads the configuration from disk in the background. The file is read and parsed
+     * on a background thread while readers keep using the current data, which is replaced
+     * in a single step once parsing succeeded. If the file cannot be read or parsed, the
+     * configuration is left untouched and the returned future completes exceptionally.
+     * Like {@link #reload()}, pending write-behind changes are written before the file is
+     * read; values set while the reload is in flight are replaced by the reloaded data.
+     * If reloads overlap, the result of a read that finishes after a newer reload was
+     * applied is dropped, so the data never goes back to an older state of the file.
+     *
+     * @return a future that completes once the reloaded data is in place
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    CompletableFuture<Void> reloadAsync();
+
     /**
      * Manually saves the current configuration state to disk.
      *
@@ -160,6 +595,18 @@ public interface Config {
      */
     void save();
 
+    /**
+     * Writes pending write-behind changes to disk. Does nothing if there are no
+     * unsaved changes or write-behind persistence is disabled.
+     *
+     * @throws ConfigSaveException if the pending changes cannot be written
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see ConfigOptions#isWriteBehind()
+     */
+    void flush();
+
     /**
      * Gets the file path where this configuration is stored.
      *
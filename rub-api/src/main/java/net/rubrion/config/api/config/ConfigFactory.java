@@ -63,6 +63,90 @@ public interface ConfigFactory {
      */
     Config read(Path path);
 
+    /**
+     * Reads a configuration file from the config directory using custom options.
+     * Follows the same fallback mechanism as {@link #read(String)}.
+     *
+     * @param filename The filename relative to the config directory (e.g., "database.json")
+     * @param options The options controlling how the configuration persists changes
+     * @return The loaded configuration instance
+     * @throws IllegalArgumentException if the filename is null, empty, or has an unsupported extension
+     * @throws SecurityException if file access is denied by the security manager
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    Config read(String filename, ConfigOptions options);
+
+    /**
+     * Reads a configuration file from an explicit file path using custom options.
+     * Follows the same fallback mechanism as {@link #read(String)}.
+     *
+     * @param path The absolute or relative path to the configuration file
+     * @param options The options controlling how the configuration persists changes
+     * @return The loaded configuration instance
+     * @throws IllegalArgumentException if the path is null or has an unsupported extension
+     * @throws SecurityException if file access is denied by the security manager
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    Config read(Path path, ConfigOptions options);
+
+    /**
+     * Sets the options used by {@link #read(String)} and {@link #read(Path)}.
+     *
+     * @param options The default options for configurations read by this factory
+     * @throws IllegalArgumentException if the options are null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    void setDefaultOptions(ConfigOptions options);
+
+    /**
+     * Gets the options used by {@link #read(String)} and {@link #read(Path)}.
+     *
+     * @return The default options, never null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    ConfigOptions getDefaultOptions();
+
+    /**
+     * Writes the pending write-behind changes of every configuration created by this factory.
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see Config#flush()
+     */
+    void flush();
+
+    /**
+     * Gets the statistics of the string pool shared by every configuration read by this
+     * factory, including how much heap the deduplication of keys and short values saves.
+     *
+     * @return a snapshot of the pool statistics
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    KeyPoolStats getKeyPoolStats();
+
+    /**
+     * Gets the statistics of the background threads writing the configurations read by
+     * this factory with async writes, such as the number of queued writes and how long
+     * writes wait until they reach the disk.
+     *
+     * @return a snapshot of the I/O statistics
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see ConfigOptions#isAsyncWrites()
+     */
+    IoStats getIoStats();
+
     /**
      * Sets the base configuration directory where configuration files are stored.
      * All relative filenames passed to {@link #read(String)} will be resolved
@@ -0,0 +1,439 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.api.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Immutable options controlling how a {@link Config} persists its changes.
+ * By default every {@link Config#set(String, Object)} is written to disk immediately;
+ * use {@link #builder()} to opt into other persistence strategies.
+ *
+ * @author LeyCM
+ * @since 2.0.2
+ */
+public final class ConfigOptions {
+    private static final ConfigOptions DEFAULTS = builder().build();
+
+    private final Duration writeBehindDelay;
+    private final int writeBehindMaxChanges;
+    private final boolean asyncWrites;
+    private final boolean atomicWrites;
+    private final boolean fsync;
+    private final long journalCompactionThreshold;
+    private final boolean streamingWrites;
+    private final boolean pathIndex;
+    private final boolean concurrent;
+
+    private ConfigOptions(@NotNull Builder builder) {
+        this.writeBehindDelay = builder.writeBehindDelay;
+        this.writeBehindMaxChanges = builder.writeBehindMaxChanges;
+        this.asyncWrites = builder.asyncWrites;
+        this.atomicWrites = builder.atomicWrites;
+        this.fsync = builder.fsync;
+        this.journalCompactionThreshold = builder.journalCompactionThreshold;
+        this.streamingWrites = builder.streamingWrites;
+        this.pathIndex = builder.pathIndex;
+        this.concurrent = builder.concurrent;
+    }
+
+    /**
+     * Returns the default options, which save every change synchronously.
+     *
+     * @return the shared default options
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public static @NotNull ConfigOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates a new builder initialised with the default options.
+     *
+     * @return a new options builder
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a new builder initialised with the values of these options.
+     *
+     * @return a new options builder copying these options
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public @NotNull Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.writeBehindDelay = writeBehindDelay;
+        builder.writeBehindMaxChanges = writeBehindMaxChanges;
+        builder.asyncWrites = asyncWrites;
+        builder.atomicWrites = atomicWrites;
+        builder.fsync = fsync;
+        builder.journalCompactionThreshold = journalCompactionThreshold;
+        builder.streamingWrites = streamingWrites;
+        builder.pathIndex = pathIndex;
+        builder.concurrent = concurrent;
+        return builder;
+    }
+
+    /**
+     * Checks whether write-behind persistence is enabled.
+     * In write-behind mode {@link Config#set(String, Object)} only marks the configuration
+     * dirty and a background flusher coalesces pending changes into a single save.
+     *
+     * @return true if changes are written behind, false if every change is saved immediately
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public boolean isWriteBehind() {
+        return writeBehindDelay != null;
+    }
+
+    /**
+     * Gets the delay after the first unsaved change before pending changes are flushed.
+     *
+     * @return the flush delay, or null if write-behind persistence is disabled
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public @Nullable Duration getWriteBehindDelay() {
+        return writeBehindDelay;
+    }
+
+    /**
+     * Gets the number of pending changes that triggers a flush before the delay has elapsed.
+     *
+     * @return the change count threshold, or 0 if write-behind persistence is disabled
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public int getWriteBehindMaxChanges() {
+        return writeBehindMaxChanges;
+    }
+
+    /**
+     * Checks whether saves are handed to the shared background I/O scheduler.
+     * In async mode {@link Config#save()} serializes the configuration on the calling
+     * thread and returns as soon as the result is queued; the file is written later
+     * by a dedicated I/O thread, coalesced with other saves of the same file.
+     *
+     * @return true if files are written asynchronously, false if saves block until written
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public boolean isAsyncWrites() {
+        return asyncWrites;
+    }
+
+    /**
+     * Checks whether saves replace the file atomically. Atomic saves write to a temporary
+     * file next to the configuration and move it over the original, so a crash during
+     * a save never leaves a truncated file behind. Enabled by default.
+     *
+     * @return true if files are replaced atomically, false if they are overwritten in place
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public boolean isAtomicWrites() {
+        return atomicWrites;
+    }
+
+    /**
+     * Checks whether written data is forced to the storage device before a save completes.
+     * Disabled by default, as it trades save latency for durability on power loss.
+     *
+     * @return true if every write is followed by an fsync, false otherwise
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    /**
+     * Checks whether journal mode is enabled. In journal mode {@link Config#set(String, Object)}
+     * appends a compact record to a sidecar {@code <file>.journal} log instead of rewriting
+     * the configuration file. The journal is replayed over the file on load and folded back
+     * into the file in the background once it outgrows the compaction threshold.
+     * Journal mode takes precedence over write-behind persistence.
+     *
+     * @return true if changes are journaled, false otherwise
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public boolean isJournal() {
+        return journalCompactionThreshold > 0;
+    }
+
+    /**
+     * Gets the journal size in bytes that triggers a background compaction.
+     *
+     * @return the compaction threshold in bytes, or 0 if journal mode is disabled
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    /**
+     * Checks whether saves stream the document straight into the file. In streaming mode
+     * the adapter serializes through {@link net.rubrion.config.api.adapter.ConfigAdapter#write(String, java.util.Map, java.io.Writer)}
+     * into a buffered channel, and the configuration keeps only the length and checksum of
+     * the last written document instead of its text. Saves of unchanged data are still
+     * skipped. As no text is kept, comments and layout of the current file are not carried
+     * over, which makes this mode a fit for large machine-managed data files. Streaming
+     * saves always run on the calling thread, regardless of {@link #isAsyncWrites()}.
+     *
+     * @return true if saves are streamed, false if the document is built in memory first
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public boolean isStreamingWrites() {
+        return streamingWrites;
+    }
+
+    /**
+     * Checks whether the configuration keeps a flat index from every full path to its value
+     * next to the nested data. With the index a lookup of a nested key costs a single hash
+     * probe instead of one map lookup per level, at the price of one index entry per value
+     * and section. The index follows {@link Config#set(String, Object)}, {@link Config#reload()}
+     * and rolled back batches; modifications made directly to maps handed out by
+     * {@link Config#get(String, Class)} are not reflected until they are set or reloaded.
+     *
+     * @return true if lookups go through a flat path index, false if they walk the nested data
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public boolean isPathIndex() {
+        return pathIndex;
+    }
+
+    /**
+     * Checks whether the configuration is safe to read from other threads while it is
+     * modified. In concurrent mode the data is an immutable tree published through a
+     * volatile reference: {@link Config#set(String, Object)} copies the sections on the
+     * path to the changed value and swaps in the new tree, and readers always see one
+     * complete version of it; the changes of an {@link Config#edit(java.util.function.Consumer) edit}
+     * batch become visible one by one. Maps and lists handed out by {@link Config#get(String, Class)}
+     * are unmodifiable, and {@link Config#snapshot()} costs nothing to take. Concurrent
+     * configurations do not keep a {@link #isPathIndex() path index}.
+     *
+     * @return true if the configuration uses copy-on-write snapshots, false if it is modified in place
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * Builder for {@link ConfigOptions}.
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public static final class Builder {
+        private Duration writeBehindDelay;
+        private int writeBehindMaxChanges;
+        private boolean asyncWrites;
+        private boolean atomicWrites = true;
+        private boolean fsync;
+        private long journalCompactionThreshold;
+        private boolean streamingWrites;
+        private boolean pathIndex;
+        private boolean concurrent;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables write-behind persistence. Pending changes are flushed once the delay
+         * has elapsed since the first unsaved change, or as soon as the given number
+         * of changes has accumulated, whichever happens first.
+         *
+         * @param delay the maximum time a change stays unsaved, must be positive
+         * @param maxChanges the number of pending changes that forces a flush, must be positive
+         * @return this builder
+         * @throws IllegalArgumentException if delay is null or not positive, or maxChanges is not positive
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         */
+        public @NotNull Builder writeBehind(Duration delay, int maxChanges) {
+            if (delay == null || delay.isNegative() || delay.isZero()) {
+                throw new IllegalArgumentException("Write-behind delay must be positive");
+            }
+            if (maxChanges <= 0) {
+                throw new IllegalArgumentException("Write-behind change threshold must be positive");
+            }
+            this.writeBehindDelay = delay;
+            this.writeBehindMaxChanges = maxChanges;
+            return this;
+        }
+
+        /**
+         * Disables write-behind persistence so every change is saved immediately.
+         *
+         * @return this builder
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         */
+        public @NotNull Builder writeThrough() {
+            this.writeBehindDelay = null;
+            this.writeBehindMaxChanges = 0;
+            return this;
+        }
+
+        /**
+         * Enables or disables asynchronous writes through the shared I/O scheduler.
+         *
+         * @param asyncWrites true to queue file writes instead of writing on the calling thread
+         * @return this builder
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         * @see ConfigOptions#isAsyncWrites()
+         */
+        public @NotNull Builder asyncWrites(boolean asyncWrites) {
+            this.asyncWrites = asyncWrites;
+            return this;
+        }
+
+        /**
+         * Enables or disables atomic file replacement on save.
+         *
+         * @param atomicWrites true to write through a temporary file and an atomic move
+         * @return this builder
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         * @see ConfigOptions#isAtomicWrites()
+         */
+        public @NotNull Builder atomicWrites(boolean atomicWrites) {
+            this.atomicWrites = atomicWrites;
+            return this;
+        }
+
+        /**
+         * Enables or disables forcing written data to the storage device.
+         *
+         * @param fsync true to fsync every written file before it replaces the configuration
+         * @return this builder
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         * @see ConfigOptions#isFsync()
+         */
+        public @NotNull Builder fsync(boolean fsync) {
+            this.fsync = fsync;
+            return this;
+        }
+
+        /**
+         * Enables journal mode.
+         *
+         * @param compactionThreshold the journal size in bytes that triggers a compaction, must be positive
+         * @return this builder
+         * @throws IllegalArgumentException if compactionThreshold is not positive
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         * @see ConfigOptions#isJournal()
+         */
+        public @NotNull Builder journal(long compactionThreshold) {
+            if (compactionThreshold <= 0) {
+                throw new IllegalArgumentException("Journal compaction threshold must be positive");
+            }
+            this.journalCompactionThreshold = compactionThreshold;
+            return this;
+        }
+
+        /**
+         * Enables or disables streaming saves.
+         *
+         * @param streamingWrites true to serialize straight into the file instead of into a string
+         * @return this builder
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         * @see ConfigOptions#isStreamingWrites()
+         */
+        public @NotNull Builder streamingWrites(boolean streamingWrites) {
+            this.streamingWrites = streamingWrites;
+            return this;
+        }
+
+        /**
+         * Enables or disables the flat path index.
+         *
+         * @param pathIndex true to resolve lookups through a flat index of all paths
+         * @return this builder
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         * @see ConfigOptions#isPathIndex()
+         */
+        public @NotNull Builder pathIndex(boolean pathIndex) {
+            this.pathIndex = pathIndex;
+            return this;
+        }
+
+        /**
+         * Enables or disables the concurrent copy-on-write mode.
+         *
+         * @param concurrent true to publish immutable snapshots for lock-free reads
+         * @return this builder
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         * @see ConfigOptions#isConcurrent()
+         */
+        public @NotNull Builder concurrent(boolean concurrent) {
+            this.concurrent = concurrent;
+            return this;
+        }
+
+        /**
+         * Builds the immutable options.
+         *
+         * @return the configured options
+         *
+         * @author LeyCM
+         * @since 2.0.2
+         */
+        public @NotNull ConfigOptions build() {
+            return new ConfigOptions(this);
+        }
+    }
+}
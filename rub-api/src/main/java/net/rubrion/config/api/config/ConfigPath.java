@@ -0,0 +1,291 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.api.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-parsed configuration key. A path splits a dot notation key (e.g. "database.host")
+ * into its segments once, so repeated lookups do not parse the key again.
+ * Paths are immutable; instances created through {@link #of(String)} are interned
+ * in a bounded cache, and {@link #child(String)} caches the paths it composes. Both
+ * caches evict rarely used paths once full, so new hot keys still get cached.
+ *
+ * @author LeyCM
+ * @since 2.0.2
+ */
+public final class ConfigPath {
+    private static final int MAX_CACHED_PATHS = 4096;
+    private static final int MAX_CACHED_CHILDREN = 64;
+    private static final PathCache CACHE = new PathCache(MAX_CACHED_PATHS);
+
+    private final String[] segments;
+    private final String key;
+    private final int hash;
+    private final ConfigPath parent;
+    private volatile PathCache children;
+
+    private ConfigPath(String @NotNull [] segments, @NotNull String key, @Nullable ConfigPath parent) {
+        this.segments = segments;
+        this.key = key;
+        this.hash = Arrays.hashCode(segments);
+        this.parent = parent;
+    }
+
+    /**
+     * Gets the path of a dot notation key.
+     *
+     * @param key the configuration key (supports dot notation like "database.host")
+     * @return the parsed path
+     * @throws IllegalArgumentException if key is null or consists of dots only
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public static @NotNull ConfigPath of(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        ConfigPath path = CACHE.get(key);
+        if (path != null) {
+            return path;
+        }
+
+        return CACHE.put(key, new ConfigPath(split(key), key, null));
+    }
+
+    /**
+     * Gets the path below this path that is addressed by a relative dot notation key.
+     *
+     * @param key the relative configuration key
+     * @return the composed path
+     * @throws IllegalArgumentException if key is null or consists of dots only
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public @NotNull ConfigPath child(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        PathCache cached = children;
+        if (cached == null) {
+            cached = new PathCache(MAX_CACHED_CHILDREN);
+            children = cached;
+        }
+
+        ConfigPath path = cached.get(key);
+        if (path != null) {
+            return path;
+        }
+
+        return cached.put(key, child(of(key)));
+    }
+
+    /**
+     * Gets the path below this path that is addressed by a relative path.
+     *
+     * @param relative the relative path
+     * @return the composed path
+     * @throws IllegalArgumentException if relative is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public @NotNull ConfigPath child(ConfigPath relative) {
+        if (relative == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+
+        String[] combined = Arrays.copyOf(segments, segments.length + relative.segments.length);
+        System.arraycopy(relative.segments, 0, combined, segments.length, relative.segments.length);
+        return new ConfigPath(combined, key + "." + relative.key, relative.segments.length == 1 ? this : null);
+    }
+
+    /**
+     * Gets the number of segments of this path.
+     *
+     * @return the segment count, at least 1
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public int size() {
+        return segments.length;
+    }
+
+    /**
+     * Gets a single segment of this path.
+     *
+     * @param index the index of the segment, starting at 0 for the top-level key
+     * @return the segment at the index
+     * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #size()}
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public @NotNull String getSegment(int index) {
+        return segments[index];
+    }
+
+    /**
+     * Gets the last segment of this path, i.e. the key within the enclosing section.
+     *
+     * @return the last segment
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public @NotNull String getLast() {
+        return segments[segments.length - 1];
+    }
+
+    /**
+     * Gets the path of the enclosing section.
+     *
+     * @return the parent path, or null if this is a top-level path
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public @Nullable ConfigPath getParent() {
+        if (parent != null) {
+            return parent;
+        }
+        if (segments.length == 1) {
+            return null;
+        }
+        return of(String.join(".", Arrays.copyOf(segments, segments.length - 1)));
+    }
+
+    /**
+     * Gets the dot notation key of this path.
+     *
+     * @return the configuration key
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    @Override
+    public @NotNull String toString() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ConfigPath other && Arrays.equals(segments, other.segments);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Splits like {@code key.split("\\.")}, which drops trailing empty segments.
+     */
+    private static String @NotNull [] split(@NotNull String key) {
+        if (key.indexOf('.') < 0) {
+            return new String[]{key};
+        }
+
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int dot;
+        while ((dot = key.indexOf('.', start)) >= 0) {
+            parts.add(key.substring(start, dot));
+            start = dot + 1;
+        }
+        parts.add(key.substring(start));
+
+        int size = parts.size();
+        while (size > 1 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        if (size == 1 && parts.get(0).isEmpty()) {
+            throw new IllegalArgumentException("Invalid key: " + key);
+        }
+        return parts.subList(0, size).toArray(new String[0]);
+    }
+
+    /**
+     * Bounded cache with clock eviction. Lookups only mark the entry as recently used and
+     * never lock; a full cache evicts the first entry the clock hand finds unmarked,
+     * clearing the marks it passes on the way.
+     */
+    private static final class PathCache {
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        private final String[] ring;
+        private int size;
+        private int hand;
+
+        private PathCache(int capacity) {
+            this.ring = new String[capacity];
+        }
+
+        private @Nullable ConfigPath get(@NotNull String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.path;
+        }
+
+        private synchronized @NotNull ConfigPath put(@NotNull String key, @NotNull ConfigPath path) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing.path;
+            }
+
+            if (size < ring.length) {
+                ring[size++] = key;
+            } else {
+                while (true) {
+                    Entry candidate = entries.get(ring[hand]);
+                    if (!candidate.referenced) {
+                        break;
+                    }
+                    candidate.referenced = false;
+                    hand = (hand + 1) % ring.length;
+                }
+                entries.remove(ring[hand]);
+                ring[hand] = key;
+                hand = (hand + 1) % ring.length;
+            }
+            entries.put(key, new Entry(path));
+            return path;
+        }
+
+        private static final class Entry {
+            private final ConfigPath path;
+            private volatile boolean referenced;
+
+            private Entry(ConfigPath path) {
+                this.path = path;
+            }
+        }
+    }
+}
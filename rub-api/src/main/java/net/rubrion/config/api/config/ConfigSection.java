@@ -36,7 +36,24 @@ public interface ConfigSection {
      * @author LeyCM
      * @since 2.0.2
      */
-    <T> Optional<T> get(String key, Class<T> type);
+    default <T> Optional<T> get(String key, Class<T> type) {
+        return get(ConfigPath.of(key), type);
+    }
+
+    /**
+     * Retrieves a value from the configuration section by a pre-parsed path relative to this section.
+     *
+     * @param <T> the type of the value to retrieve
+     * @param path the path relative to this section
+     * @param type the class type of the value to retrieve
+     * @return an Optional containing the value if found and type-compatible, empty Optional otherwise
+     * @throws IllegalArgumentException if path or type is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #get(String, Class)
+     */
+    <T> Optional<T> get(ConfigPath path, Class<T> type);
 
     /**
      * Retrieves a value from the configuration section by key and type, returning a default value if not found.
@@ -52,7 +69,151 @@ public interface ConfigSection {
      * @author LeyCM
      * @since 2.0.2
      */
-    <T> T getOr(String key, Class<T> type, T defaultValue);
+    default <T> T getOr(String key, Class<T> type, T defaultValue) {
+        return getOr(ConfigPath.of(key), type, defaultValue);
+    }
+
+    /**
+     * Retrieves a value by a pre-parsed path relative to this section, returning a default value if not found.
+     *
+     * @param <T> the type of the value to retrieve
+     * @param path the path relative to this section
+     * @param type the class type of the value to retrieve
+     * @param defaultValue the default value to return if the key doesn't exist or type conversion fails
+     * @return the configuration value if found and type-compatible, otherwise the defaultValue
+     * @throws IllegalArgumentException if path or type is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getOr(String, Class, Object)
+     */
+    <T> T getOr(ConfigPath path, Class<T> type, T defaultValue);
+
+    /**
+     * Retrieves an int value from the configuration section without boxing or allocating.
+     * A stored {@link Number} is read directly; other values are converted like
+     * {@link #get(String, Class)} does.
+     * Numbers with a fraction or outside the int range count as not convertible.
+     *
+     * @param key the configuration key (supports dot notation like "database.port")
+     * @param defaultValue the value to return if the key doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default int getInt(String key, int defaultValue) {
+        return getInt(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Retrieves an int value by a pre-parsed path relative to this section without boxing or allocating.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value to return if the path doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getInt(String, int)
+     */
+    int getInt(ConfigPath path, int defaultValue);
+
+    /**
+     * Retrieves a long value from the configuration section without boxing or allocating.
+     * A stored {@link Number} is read directly; other values are converted like
+     * {@link #get(String, Class)} does.
+     * Numbers with a fraction or outside the long range count as not convertible.
+     *
+     * @param key the configuration key (supports dot notation like "database.port")
+     * @param defaultValue the value to return if the key doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default long getLong(String key, long defaultValue) {
+        return getLong(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Retrieves a long value by a pre-parsed path relative to this section without boxing or allocating.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value to return if the path doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getLong(String, long)
+     */
+    long getLong(ConfigPath path, long defaultValue);
+
+    /**
+     * Retrieves a double value from the configuration section without boxing or allocating.
+     * A stored {@link Number} is read directly; other values are converted like
+     * {@link #get(String, Class)} does.
+     *
+     * @param key the configuration key (supports dot notation like "database.port")
+     * @param defaultValue the value to return if the key doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default double getDouble(String key, double defaultValue) {
+        return getDouble(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Retrieves a double value by a pre-parsed path relative to this section without boxing or allocating.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value to return if the path doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getDouble(String, double)
+     */
+    double getDouble(ConfigPath path, double defaultValue);
+
+    /**
+     * Retrieves a boolean value from the configuration section without boxing or allocating.
+     * A stored {@link Boolean} is read directly; other values are converted like
+     * {@link #get(String, Class)} does.
+     *
+     * @param key the configuration key (supports dot notation like "database.port")
+     * @param defaultValue the value to return if the key doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if key is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default boolean getBoolean(String key, boolean defaultValue) {
+        return getBoolean(ConfigPath.of(key), defaultValue);
+    }
+
+    /**
+     * Retrieves a boolean value by a pre-parsed path relative to this section without boxing or allocating.
+     *
+     * @param path the configuration path
+     * @param defaultValue the value to return if the path doesn't exist or cannot be converted
+     * @return the configuration value, or defaultValue if absent or not convertible
+     * @throws IllegalArgumentException if path is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getBoolean(String, boolean)
+     */
+    boolean getBoolean(ConfigPath path, boolean defaultValue);
 
     /**
      * Sets a value in the configuration section at the specified key.
@@ -67,7 +228,23 @@ public interface ConfigSection {
      * @author LeyCM
      * @since 2.0.2
      */
-    void set(String key, Object value);
+    default void set(String key, Object value) {
+        set(ConfigPath.of(key), value);
+    }
+
+    /**
+     * Sets a value in the configuration section at a pre-parsed path relative to this section.
+     *
+     * @param path the path relative to this section
+     * @param value the value to store in the configuration section
+     * @throws IllegalArgumentException if path is null
+     * @throws UnsupportedOperationException if the configuration is read-only
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #set(String, Object)
+     */
+    void set(ConfigPath path, Object value);
 
     /**
      * Returns a list of all keys present in this configuration section.
@@ -0,0 +1,31 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.api.config;
+
+import java.time.Duration;
+
+/**
+ * Statistics of the background I/O threads a {@link ConfigFactory} uses for the
+ * configurations it reads with {@link ConfigOptions#isAsyncWrites() async writes}.
+ * The flush latency is the time from queueing a write until its content is on disk.
+ *
+ * @param queueDepth the number of files with a write waiting to be written
+ * @param completedWrites the number of writes that reached the disk so far
+ * @param lastFlushLatency the flush latency of the latest completed write
+ * @param maxFlushLatency the highest flush latency seen so far
+ * @param averageFlushLatency the average flush latency of all completed writes
+ *
+ * @author LeyCM
+ * @since 2.0.2
+ */
+public record IoStats(int queueDepth, long completedWrites, Duration lastFlushLatency,
+                      Duration maxFlushLatency, Duration averageFlushLatency) {
+}
@@ -0,0 +1,39 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.api.config;
+
+/**
+ * Statistics of the string pool a {@link ConfigFactory} shares between the configurations
+ * it reads. Keys and short string values of every loaded configuration go through the
+ * pool, so identical strings of similar configurations are kept in memory only once.
+ *
+ * @param pooled the number of distinct strings held by the pool
+ * @param lookups the number of strings that went through the pool
+ * @param hits the number of strings that were replaced by an already pooled instance
+ * @param savedBytes the estimated heap in bytes that is no longer retained thanks to the hits
+ *
+ * @author LeyCM
+ * @since 2.0.2
+ */
+public record KeyPoolStats(int pooled, long lookups, long hits, long savedBytes) {
+
+    /**
+     * Gets the share of lookups that were served by an already pooled string.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups yet
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    public double hitRate() {
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -10,6 +10,10 @@
  */
 package net.rubrion.config.api.field;
 
+import net.rubrion.config.api.config.ConfigPath;
+
+import java.util.function.UnaryOperator;
+
 /**
  * A reactive field that always reflects the current configuration value.
  * This interface provides type-safe access to configuration values with
@@ -67,6 +71,33 @@ public interface Field<T> {
      */
     boolean exists();
 
+    /**
+     * Atomically sets the value of this field if its current value equals the expected one.
+     * Values are compared with {@link Object#equals(Object)} after conversion to the field type.
+     *
+     * @param expected the value the field is expected to hold, or null if it is expected to be absent
+     * @param newValue the new value to set
+     * @return true if the value was set, false if the current value did not match
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    boolean compareAndSet(T expected, T newValue);
+
+    /**
+     * Atomically replaces the value of this field with the result of the update function.
+     * The function runs without holding a lock; if the value at this path was modified in
+     * the meantime, the function is applied again to the new value. It should therefore be
+     * free of side effects.
+     *
+     * @param update the function computing the new value from the current one, which may be null
+     * @return the new value
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    T updateAndGet(UnaryOperator<T> update);
+
     /**
      * Gets the configuration key that this field represents.
      * The key is the unique identifier used to store and retrieve this field
@@ -78,4 +109,16 @@ public interface Field<T> {
      * @since 2.0.2
      */
     String key();
+
+    /**
+     * Gets the pre-parsed configuration path that this field represents.
+     *
+     * @return the configuration path of {@link #key()}
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    default ConfigPath path() {
+        return ConfigPath.of(key());
+    }
 }
\ No newline at end of file
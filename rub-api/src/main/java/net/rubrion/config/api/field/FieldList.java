@@ -25,6 +25,7 @@ public interface FieldList<T> extends Field<List<T>> {
     /**
      * Adds an item to the list. This operation is reactive and will trigger
      * appropriate change notifications to registered listeners.
+     * The update is atomic, so concurrent additions are not lost.
      *
      * @param item the item to add to the list, cannot be null
      * @throws IllegalArgumentException if the item is null or invalid for the list type
@@ -38,6 +39,7 @@ public interface FieldList<T> extends Field<List<T>> {
     /**
      * Removes an item from the list. This operation is reactive and will trigger
      * appropriate change notifications to registered listeners.
+     * The update is atomic, so concurrent removals are not lost.
      *
      * @param item the item to remove from the list
      * @throws UnsupportedOperationException if the list does not support remove operations
@@ -11,6 +11,7 @@
  */
 package net.rubrion.config.api.field;
 
+import net.rubrion.config.api.config.ConfigPath;
 import net.rubrion.config.api.config.ConfigSection;
 import net.rubrion.config.api.exception.ConfigReadException;
 
@@ -42,7 +43,24 @@ public interface FieldSection extends Field<ConfigSection> {
      * @author LeyCM
      * @since 2.0.2
      */
-    <T> Field<T> getField(String key, Class<T> type);
+    default <T> Field<T> getField(String key, Class<T> type) {
+        return getField(ConfigPath.of(key), type);
+    }
+
+    /**
+     * Retrieves a field from this configuration section by a pre-parsed path relative to this section.
+     *
+     * @param <T> the type of the field value
+     * @param path the path relative to this section, cannot be null
+     * @param type the class type of the field value, cannot be null
+     * @return the field instance for the specified path and type
+     * @throws IllegalArgumentException if the path or the type is null
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     * @see #getField(String, Class)
+     */
+    <T> Field<T> getField(ConfigPath path, Class<T> type);
 
     /**
      * Gets all keys currently available in this configuration section.
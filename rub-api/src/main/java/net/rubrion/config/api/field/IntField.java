@@ -0,0 +1,43 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.api.field;
+
+/**
+ * A reactive field holding an int value in a primitive slot. The slot is refreshed
+ * whenever the configuration is reloaded or the key (or one of its parent sections) is set,
+ * so reading the current value is a single field read without lookups, conversion or boxing.
+ *
+ * @author LeyCM
+ * @since 2.0.2
+ */
+public interface IntField extends Field<Integer> {
+
+    /**
+     * Gets the current value of this field without boxing.
+     *
+     * @return the current value, or the default value of the field if no value is set
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    int getAsInt();
+
+    /**
+     * Sets the value of this field and automatically persists the change
+     * to the underlying configuration storage.
+     *
+     * @param value the new value to set for this field
+     *
+     * @author LeyCM
+     * @since 2.0.2
+     */
+    void set(int value);
+}
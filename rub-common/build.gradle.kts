@@ -5,6 +5,14 @@ dependencies {
     compileOnly(libs.slf4j)
     implementation(libs.logback)
     implementation(libs.bundles.config)
+
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
 
 tasks.register<Copy>("exportResources") {
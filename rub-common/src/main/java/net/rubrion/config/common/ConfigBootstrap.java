@@ -10,18 +10,23 @@
  */
 package net.rubrion.config.common;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.rubrion.common.api.id.NamespacedId;
 import net.rubrion.config.api.ConfigApiModule;
 import net.rubrion.config.api.config.Config;
 import net.rubrion.config.api.config.ConfigFactory;
+import net.rubrion.config.api.config.ConfigOptions;
 import net.rubrion.config.common.adapter.type.TypeAdapterRegistryImpl;
 import net.rubrion.config.common.config.ConfigFactoryImpl;
+import net.rubrion.config.common.config.ConfigFlusher;
+import net.rubrion.config.common.config.ConfigIoScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Getter
 public class ConfigBootstrap implements ConfigApiModule {
@@ -33,6 +38,13 @@ public class ConfigBootstrap implements ConfigApiModule {
     private final NamespacedId id;
     private final ConfigFactory configFactory;
     private final TypeAdapterRegistryImpl typeAdapterRegistry;
+    private final ConfigFlusher flusher;
+    private final ConfigIoScheduler ioScheduler;
+
+    @Getter(AccessLevel.NONE)
+    private final Thread shutdownHook;
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean shutdown = new AtomicBoolean();
 
     /**
      * Creates a new ConfigBootstrap using the default directory ("config/"),
@@ -66,7 +78,12 @@ public class ConfigBootstrap implements ConfigApiModule {
         this.logger.info("Initializing Config System at: {}", configDirectory);
 
         this.typeAdapterRegistry = new TypeAdapterRegistryImpl();
-        this.configFactory = new ConfigFactoryImpl(configDirectory, typeAdapterRegistry);
+        this.flusher = new ConfigFlusher();
+        this.ioScheduler = new ConfigIoScheduler();
+        this.configFactory = new ConfigFactoryImpl(configDirectory, typeAdapterRegistry, flusher, ioScheduler);
+
+        this.shutdownHook = new Thread(this::shutdown, "rub-config-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
 
         this.logger.info("Config System initialized successfully");
     }
@@ -90,4 +107,36 @@ public class ConfigBootstrap implements ConfigApiModule {
     public Config read(Path path) {
         return configFactory.read(path);
     }
+
+    @Override
+    public Config read(String filename, ConfigOptions options) {
+        return configFactory.read(filename, options);
+    }
+
+    @Override
+    public Config read(Path path, ConfigOptions options) {
+        return configFactory.read(path, options);
+    }
+
+    /**
+     * Flushes all pending write-behind changes and queued async writes,
+     * then stops the background flusher and I/O threads.
+     * Called automatically on JVM shutdown; platforms should call it when the
+     * plugin is disabled. Subsequent calls have no effect.
+     */
+    public void shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ignored) {
+            // JVM is already shutting down, the hook is running this method
+        }
+
+        logger.info("Flushing pending config changes");
+        flusher.shutdown();
+        ioScheduler.shutdown();
+    }
 }
@@ -0,0 +1,45 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import net.rubrion.config.api.adapter.ConfigAdapter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Adapter that can serialize every top-level entry on its own and splice the
+ * rendered fragments into a document. Lets a config re-render only the entries
+ * that changed since the last save and reuse the cached text of all others.
+ */
+public interface FragmentedConfigAdapter extends ConfigAdapter {
+
+    /**
+     * Renders a single top-level entry.
+     *
+     * @param key the top-level key
+     * @param value the value stored under the key
+     * @return the text of the entry as it appears in a full document
+     * @throws IOException if the value cannot be serialized
+     */
+    String writeFragment(Object key, Object value) throws IOException;
+
+    /**
+     * Joins rendered fragments into a complete document.
+     *
+     * @param current the current file content, used to preserve comments
+     * @param data the configuration data the fragments were rendered from
+     * @param fragments the rendered fragments keyed by top-level key, in document order
+     * @return the complete document
+     * @throws IOException if the document cannot be assembled
+     */
+    String assemble(String current, Map<String, Object> data, Map<Object, String> fragments) throws IOException;
+}
@@ -0,0 +1,54 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free pool of instances that must not be used by several threads at once, such
+ * as SnakeYAML's {@code Yaml}. Every call borrows an idle instance or creates a new one
+ * and hands it back afterwards; at most a few idle instances are kept. An instance
+ * whose use failed is dropped, as it may have been left in an inconsistent state.
+ */
+final class InstancePool<T> {
+    private static final int MAX_IDLE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final Supplier<T> factory;
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    InstancePool(@NotNull Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    <R> R apply(@NotNull Function<T, R> action) {
+        T instance = idle.poll();
+        if (instance == null) {
+            instance = factory.get();
+        } else {
+            idleCount.decrementAndGet();
+        }
+
+        R result = action.apply(instance);
+        if (idleCount.incrementAndGet() <= MAX_IDLE) {
+            idle.offer(instance);
+        } else {
+            idleCount.decrementAndGet();
+        }
+        return result;
+    }
+}
@@ -11,22 +11,31 @@
 package net.rubrion.config.common.adapter.config;
 
 import com.google.gson.*;
-import net.rubrion.config.api.adapter.ConfigAdapter;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.io.Writer;
+import java.util.*;
 
-public class JsonConfigAdapter implements ConfigAdapter {
+/**
+ * JSON adapter using Gson.
+ * Updates are spliced into the existing text where possible, see {@link JsonDocumentIndex}.
+ * Gson instances are thread-safe, so the adapter can be used by several threads at once.
+ */
+public class JsonConfigAdapter implements FragmentedConfigAdapter, PatchableConfigAdapter {
     private final Gson prettyGson;
+    private final Gson compactGson;
 
     public JsonConfigAdapter() {
         this.prettyGson = new GsonBuilder()
                 .setPrettyPrinting()
                 .serializeNulls()
                 .create();
+        this.compactGson = new GsonBuilder()
+                .serializeNulls()
+                .create();
     }
 
     @Override
@@ -49,13 +58,55 @@ public class JsonConfigAdapter implements ConfigAdapter {
         return prettyGson.toJson(data);
     }
 
+    @Override
+    public void write(String current, Map<String, Object> data, Writer out) throws IOException {
+        JsonWriter writer = prettyGson.newJsonWriter(out);
+        try {
+            prettyGson.toJson(data, data.getClass(), writer);
+        } catch (JsonIOException e) {
+            throw new IOException("Failed to write JSON", e);
+        }
+        writer.flush();
+    }
+
+    @Override
+    public String writeFragment(Object key, Object value) {
+        String json = prettyGson.toJson(Collections.singletonMap(key, value));
+        return json.substring(2, json.length() - 2);
+    }
+
+    @Override
+    public String assemble(String current, Map<String, Object> data, Map<Object, String> fragments) {
+        if (fragments.isEmpty()) {
+            return prettyGson.toJson(data);
+        }
+
+        StringJoiner result = new StringJoiner(",\n", "{\n", "\n}");
+        for (String fragment : fragments.values()) {
+            result.add(fragment);
+        }
+        return result.toString();
+    }
+
     @Override
     public String updateValue(String current, String key, Object value) throws IOException {
+        if (current != null && !current.trim().isEmpty()) {
+            Index patched = index(current).patch(Patches.nest(key, value), List.of(key));
+            if (patched != null) {
+                return patched.content();
+            }
+        }
+
         Map<String, Object> data = read(current);
         setNestedValue(data, key, value);
         return write(current, data);
     }
 
+    @Override
+    public Index index(String content) {
+        return new JsonDocumentIndex(content, prettyGson, compactGson);
+    }
+
     @Override
     public String[] getSupportedExtensions() {
         return new String[]{"json"};
@@ -0,0 +1,373 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import com.google.gson.Gson;
+import net.rubrion.config.common.adapter.config.Patches.Edit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Token offset index over a JSON document. Records the value range of every object
+ * member outside of arrays, so changed values are spliced into the text with the
+ * surrounding formatting untouched. Scalar replacements shift the recorded offsets
+ * instead of rescanning the patched document. Lenient syntax such as comments or
+ * unquoted names is left to a full write.
+ */
+final class JsonDocumentIndex implements PatchableConfigAdapter.Index {
+    private static final String ROOT = "";
+
+    private final String content;
+    private final Gson prettyGson;
+    private final Gson compactGson;
+    private Map<String, int[]> values;
+    private Map<String, ObjectInfo> objects;
+    private boolean scanned;
+
+    JsonDocumentIndex(@NotNull String content, @NotNull Gson prettyGson, @NotNull Gson compactGson) {
+        this.content = content;
+        this.prettyGson = prettyGson;
+        this.compactGson = compactGson;
+    }
+
+    private JsonDocumentIndex(@NotNull String content, @NotNull JsonDocumentIndex source,
+                              Map<String, int[]> values, Map<String, ObjectInfo> objects) {
+        this(content, source.prettyGson, source.compactGson);
+        this.values = values;
+        this.objects = objects;
+        this.scanned = true;
+    }
+
+    @Override
+    public String content() {
+        return content;
+    }
+
+    @Override
+    public @Nullable JsonDocumentIndex patch(Map<String, Object> data, Collection<String> changedKeys) {
+        if (!scan()) {
+            return null;
+        }
+
+        List<Edit> edits = new ArrayList<>();
+        Set<String> handled = new HashSet<>();
+        boolean shiftable = true;
+
+        for (String key : Patches.withoutDescendants(changedKeys)) {
+            String[] parts = key.split("\\.");
+            int existing = parts.length - 1;
+            while (existing >= 0 && !values.containsKey(join(parts, existing))) {
+                existing--;
+            }
+
+            String path = existing < 0 ? ROOT : join(parts, existing);
+            ObjectInfo object = objects.get(path);
+            if (existing == parts.length - 1 || object == null || object.lastEnd < 0) {
+                if (!handled.add(path)) {
+                    continue;
+                }
+                Object value = existing < 0 ? data : Patches.lookup(data, parts, existing);
+                int[] span = values.get(path);
+                edits.add(new Edit(span[0], span[1], render(value, replacementIndent(path, span[0])), edits.size()));
+                shiftable &= object == null && !(value instanceof Map);
+                continue;
+            }
+
+            if (!handled.add(join(parts, existing + 1))) {
+                continue;
+            }
+            Object value = Patches.lookup(data, parts, existing + 1);
+            String name = compactGson.toJson(parts[existing + 1]);
+            String text = object.indent == null
+                    ? "," + name + ":" + render(value, null)
+                    : ",\n" + object.indent + name + ": " + render(value, object.indent);
+            edits.add(new Edit(object.lastEnd, object.lastEnd, text, edits.size()));
+            shiftable = false;
+        }
+
+        String patched = Patches.splice(content, edits);
+        if (patched == null) {
+            return null;
+        }
+        return shiftable ? shifted(patched, edits) : new JsonDocumentIndex(patched, prettyGson, compactGson);
+    }
+
+    /**
+     * Derives the index of the patched document by moving every recorded offset
+     * behind an edit by the size difference of the edit.
+     */
+    private @NotNull JsonDocumentIndex shifted(@NotNull String patched, @NotNull List<Edit> edits) {
+        List<Edit> ordered = new ArrayList<>(edits);
+        ordered.sort(Comparator.comparingInt(Edit::end));
+        int[] ends = new int[ordered.size()];
+        int[] deltas = new int[ordered.size()];
+        int total = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            Edit edit = ordered.get(i);
+            total += edit.text().length() - (edit.end() - edit.start());
+            ends[i] = edit.end();
+            deltas[i] = total;
+        }
+
+        Map<String, int[]> movedValues = new HashMap<>(values.size() * 2);
+        values.forEach((path, span) -> movedValues.put(path,
+                new int[]{shift(span[0], ends, deltas), shift(span[1], ends, deltas)}));
+
+        Map<String, ObjectInfo> movedObjects = new HashMap<>(objects.size() * 2);
+        objects.forEach((path, object) -> movedObjects.put(path,
+                new ObjectInfo(object.lastEnd < 0 ? -1 : shift(object.lastEnd, ends, deltas), object.indent)));
+
+        return new JsonDocumentIndex(patched, this, movedValues, movedObjects);
+    }
+
+    private static int shift(int offset, int[] ends, int[] deltas) {
+        int low = 0;
+        int high = ends.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= offset) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found < 0 ? offset : offset + deltas[found];
+    }
+
+    private @NotNull String render(Object value, @Nullable String indent) {
+        if (indent == null) {
+            return compactGson.toJson(value);
+        }
+        return prettyGson.toJson(value).replace("\n", "\n" + indent);
+    }
+
+    /**
+     * Gets the indent of the line a replaced value starts on, or null if the
+     * enclosing object is written on a single line.
+     */
+    private @Nullable String replacementIndent(@NotNull String path, int position) {
+        if (content.indexOf('\n') < 0) {
+            return null;
+        }
+        if (!path.isEmpty()) {
+            int dot = path.lastIndexOf('.');
+            ObjectInfo parent = objects.get(dot < 0 ? ROOT : path.substring(0, dot));
+            if (parent == null || parent.indent == null) {
+                return null;
+            }
+        }
+
+        int lineStart = content.lastIndexOf('\n', position - 1) + 1;
+        int indentEnd = lineStart;
+        while (indentEnd < position && (content.charAt(indentEnd) == ' ' || content.charAt(indentEnd) == '\t')) {
+            indentEnd++;
+        }
+        return content.substring(lineStart, indentEnd);
+    }
+
+    private boolean scan() {
+        if (scanned) {
+            return values != null;
+        }
+        scanned = true;
+
+        Map<String, int[]> foundValues = new HashMap<>();
+        Map<String, ObjectInfo> foundObjects = new HashMap<>();
+        int start = skipWhitespace(0);
+        if (start >= content.length() || content.charAt(start) != '{') {
+            return false;
+        }
+
+        int end = scanValue(start, ROOT, foundValues, foundObjects);
+        if (end < 0 || skipWhitespace(end) != content.length()) {
+            return false;
+        }
+        foundValues.put(ROOT, new int[]{start, end});
+
+        this.values = foundValues;
+        this.objects = foundObjects;
+        return true;
+    }
+
+    /**
+     * Scans the value starting at the given offset and returns the offset behind it.
+     * Members are only recorded while {@code path} is not null, i.e. outside of arrays.
+     */
+    private int scanValue(int pos, @Nullable String path, Map<String, int[]> foundValues,
+                          Map<String, ObjectInfo> foundObjects) {
+        if (pos >= content.length()) {
+            return -1;
+        }
+
+        char c = content.charAt(pos);
+        if (c == '{') {
+            int lastEnd = -1;
+            String indent = null;
+            pos = skipWhitespace(pos + 1);
+            if (pos < content.length() && content.charAt(pos) == '}') {
+                if (path != null) {
+                    foundObjects.put(path, new ObjectInfo(-1, null));
+                }
+                return pos + 1;
+            }
+
+            boolean first = true;
+            while (true) {
+                if (pos >= content.length() || content.charAt(pos) != '"') {
+                    return -1;
+                }
+                if (first) {
+                    indent = indentOf(pos);
+                    first = false;
+                }
+
+                int keyEnd = scanString(pos);
+                if (keyEnd < 0) {
+                    return -1;
+                }
+                String name = unescape(pos + 1, keyEnd - 1);
+
+                pos = skipWhitespace(keyEnd);
+                if (pos >= content.length() || content.charAt(pos) != ':') {
+                    return -1;
+                }
+
+                int valueStart = skipWhitespace(pos + 1);
+                String childPath = path == null || name == null || name.isEmpty() || name.indexOf('.') >= 0
+                        ? null : path.isEmpty() ? name : path + "." + name;
+                int valueEnd = scanValue(valueStart, childPath, foundValues, foundObjects);
+                if (valueEnd < 0) {
+                    return -1;
+                }
+                if (childPath != null) {
+                    foundValues.put(childPath, new int[]{valueStart, valueEnd});
+                }
+                lastEnd = valueEnd;
+
+                pos = skipWhitespace(valueEnd);
+                if (pos >= content.length()) {
+                    return -1;
+                }
+                if (content.charAt(pos) == '}') {
+                    if (path != null) {
+                        foundObjects.put(path, new ObjectInfo(lastEnd, indent));
+                    }
+                    return pos + 1;
+                }
+                if (content.charAt(pos) != ',') {
+                    return -1;
+                }
+                pos = skipWhitespace(pos + 1);
+            }
+        }
+
+        if (c == '[') {
+            pos = skipWhitespace(pos + 1);
+            if (pos < content.length() && content.charAt(pos) == ']') {
+                return pos + 1;
+            }
+            while (true) {
+                pos = scanValue(pos, null, foundValues, foundObjects);
+                if (pos < 0) {
+                    return -1;
+                }
+                pos = skipWhitespace(pos);
+                if (pos >= content.length()) {
+                    return -1;
+                }
+                if (content.charAt(pos) == ']') {
+                    return pos + 1;
+                }
+                if (content.charAt(pos) != ',') {
+                    return -1;
+                }
+                pos = skipWhitespace(pos + 1);
+            }
+        }
+
+        if (c == '"') {
+            return scanString(pos);
+        }
+
+        int end = pos;
+        while (end < content.length() && isLiteralChar(content.charAt(end))) {
+            end++;
+        }
+        return end > pos ? end : -1;
+    }
+
+    private int scanString(int pos) {
+        for (int i = pos + 1; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i + 1;
+            } else if (c == '\n') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private @Nullable String unescape(int start, int end) {
+        int escape = content.indexOf('\\', start);
+        if (escape < 0 || escape >= end) {
+            return content.substring(start, end);
+        }
+        try {
+            return compactGson.fromJson(content.substring(start - 1, end + 1), String.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the whitespace in front of a token that starts its own line, or null if
+     * other content precedes it on the line.
+     */
+    private @Nullable String indentOf(int pos) {
+        int lineStart = content.lastIndexOf('\n', pos - 1) + 1;
+        for (int i = lineStart; i < pos; i++) {
+            char c = content.charAt(i);
+            if (c != ' ' && c != '\t') {
+                return null;
+            }
+        }
+        return content.substring(lineStart, pos);
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < content.length()) {
+            char c = content.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isLiteralChar(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || c == '-' || c == '+' || c == '.' || c == 'E';
+    }
+
+    private static @NotNull String join(String @NotNull [] parts, int last) {
+        return String.join(".", Arrays.copyOfRange(parts, 0, last + 1));
+    }
+
+    private record ObjectInfo(int lastEnd, @Nullable String indent) {
+    }
+}
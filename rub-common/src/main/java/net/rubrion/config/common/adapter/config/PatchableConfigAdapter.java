@@ -0,0 +1,78 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import net.rubrion.config.api.adapter.ConfigAdapter;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapter that can apply changes to the text of a document in place instead of
+ * re-rendering it. Untouched text, including comments and layout, stays exactly
+ * as it was. Changes the format engine cannot express as a text patch are
+ * reported by returning null, so the caller can fall back to a full write.
+ */
+public interface PatchableConfigAdapter extends ConfigAdapter {
+
+    /**
+     * Builds a patch index over the given content.
+     *
+     * @param content the document text
+     * @return an index that can patch the document
+     * @throws IOException if the content cannot be indexed
+     */
+    Index index(String content) throws IOException;
+
+    /**
+     * Patches the document of an index to hold the given data, for writes that do not
+     * know which keys changed. Compares the data with the document and rewrites only
+     * the values that differ.
+     *
+     * @param index the index over the current document
+     * @param data the configuration data to write
+     * @return an index over the patched document, or null if a change is structural
+     * @throws IOException if the document cannot be read or a value cannot be rendered
+     */
+    default @Nullable Index patch(Index index, Map<String, Object> data) throws IOException {
+        List<String> changes = Patches.diff(read(index.content()), data);
+        if (changes == null) {
+            return null;
+        }
+        return changes.isEmpty() ? index : index.patch(data, changes);
+    }
+
+    /**
+     * Position index over one version of a document.
+     */
+    interface Index {
+
+        /**
+         * Gets the document text this index describes.
+         *
+         * @return the document text
+         */
+        String content();
+
+        /**
+         * Rewrites the values of the changed keys in the document.
+         *
+         * @param data the configuration data holding the new values
+         * @param changedKeys the dotted keys whose values changed
+         * @return an index over the patched document, or null if a change is structural
+         * @throws IOException if a value cannot be rendered
+         */
+        @Nullable Index patch(Map<String, Object> data, Collection<String> changedKeys) throws IOException;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Shared helpers of the text patch engines.
+ */
+final class Patches {
+    private Patches() {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    /**
+     * Drops every key that has an ancestor in the collection, as rewriting the
+     * ancestor already covers it.
+     */
+    static @NotNull List<String> withoutDescendants(@NotNull Collection<String> keys) {
+        Set<String> all = new HashSet<>(keys);
+        List<String> result = new ArrayList<>(keys.size());
+        outer:
+        for (String key : keys) {
+            int dot = key.indexOf('.');
+            while (dot >= 0) {
+                if (all.contains(key.substring(0, dot))) {
+                    continue outer;
+                }
+                dot = key.indexOf('.', dot + 1);
+            }
+            result.add(key);
+        }
+        return result;
+    }
+
+    static @Nullable Object lookup(Map<?, ?> data, String @NotNull [] parts, int last) {
+        Object current = data;
+        for (int i = 0; i <= last; i++) {
+            if (!(current instanceof Map<?, ?> map)) {
+                return null;
+            }
+            current = map.get(parts[i]);
+        }
+        return current;
+    }
+
+    static @NotNull Map<String, Object> nest(@NotNull String key, Object value) {
+        String[] parts = key.split("\\.");
+        Object current = value;
+        for (int i = parts.length - 1; i > 0; i--) {
+            current = Collections.singletonMap(parts[i], current);
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put(parts[0], current);
+        return root;
+    }
+
+    /**
+     * Lists the dotted keys whose values differ between two trees. Returns null if
+     * a key was removed or a key cannot be addressed in dot notation.
+     */
+    static @Nullable List<String> diff(Map<?, ?> before, Map<?, ?> after) {
+        List<String> changes = new ArrayList<>();
+        return diff(before, after, "", changes) ? changes : null;
+    }
+
+    private static boolean diff(@NotNull Map<?, ?> before, @NotNull Map<?, ?> after,
+                                String prefix, List<String> changes) {
+        if (!after.keySet().containsAll(before.keySet())) {
+            return false;
+        }
+
+        for (Map.Entry<?, ?> entry : after.entrySet()) {
+            if (!(entry.getKey() instanceof String key) || key.isEmpty() || key.indexOf('.') >= 0) {
+                return false;
+            }
+
+            Object old = before.get(key);
+            Object now = entry.getValue();
+            String path = prefix + key;
+            if (old instanceof Map<?, ?> oldMap && now instanceof Map<?, ?> newMap) {
+                if (!diff(oldMap, newMap, path + ".", changes)) {
+                    return false;
+                }
+            } else if (!before.containsKey(key) || !Objects.equals(old, now)) {
+                changes.add(path);
+            }
+        }
+        return true;
+    }
+
+    static @Nullable String splice(@NotNull String content, @NotNull List<Edit> edits) {
+        List<Edit> ordered = new ArrayList<>(edits);
+        ordered.sort(Comparator.comparingInt(Edit::start).thenComparingInt(Edit::order).reversed());
+
+        StringBuilder result = new StringBuilder(content);
+        int limit = content.length();
+        for (Edit edit : ordered) {
+            if (edit.end() > limit) {
+                return null;
+            }
+            result.replace(edit.start(), edit.end(), edit.text());
+            limit = edit.start();
+        }
+        return result.toString();
+    }
+
+    /**
+     * Replacement of the text range {@code [start, end)}. Edits at the same position
+     * are applied in ascending {@code order}.
+     */
+    record Edit(int start, int end, String text, int order) {
+    }
+}
@@ -12,16 +12,18 @@ package net.rubrion.config.common.adapter.config;
 
 import com.moandjiezana.toml.Toml;
 import com.moandjiezana.toml.TomlWriter;
-import net.rubrion.config.api.adapter.ConfigAdapter;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.util.*;
 
 /**
- * TOML adapter, preserves comments
+ * TOML adapter, preserves comments.
+ * Updates are patched into the existing lines where possible, see {@link TomlDocumentIndex}.
+ * Every read uses its own parser and the {@link TomlWriter} holds no state between
+ * writes, so the adapter can be used by several threads at once.
  */
-public class TomlConfigAdapter implements ConfigAdapter {
+public class TomlConfigAdapter implements FragmentedConfigAdapter, PatchableConfigAdapter {
     private final TomlWriter writer;
 
     public TomlConfigAdapter() {
@@ -44,44 +46,101 @@ public class TomlConfigAdapter implements ConfigAdapter {
 
     @Override
     public String write(String current, Map<String, Object> data) {
-        List<String> comments = new ArrayList<>();
-        if (current != null && !current.trim().isEmpty()) {
-            String[] lines = current.split("\n");
-            for (String line : lines) {
-                if (line.trim().startsWith("#")) {
-                    comments.add(line);
-                }
-            }
+        StringBuilder result = new StringBuilder();
+        appendComments(result, current);
+
+        String tomlContent = writer.write(data);
+        result.append(tomlContent);
+
+        return result.toString();
+    }
+
+    @Override
+    public String writeFragment(Object key, Object value) {
+        return writer.write(Collections.singletonMap(key, value));
+    }
+
+    /**
+     * Plain key/value fragments are placed before all tables, as TOML assigns
+     * every key following a table header to that table.
+     */
+    @Override
+    public String assemble(String current, Map<String, Object> data, Map<Object, String> fragments) {
+        if (fragments.isEmpty()) {
+            return write(current, data);
         }
 
         StringBuilder result = new StringBuilder();
+        appendComments(result, current);
+        int bodyStart = result.length();
 
-        for (String comment : comments) {
-            result.append(comment).append("\n");
+        List<String> tables = new ArrayList<>();
+        for (Map.Entry<Object, String> entry : fragments.entrySet()) {
+            if (isTable(data.get(entry.getKey()))) {
+                tables.add(entry.getValue());
+            } else {
+                result.append(entry.getValue());
+            }
         }
 
-        if (!comments.isEmpty()) {
-            result.append("\n");
+        for (String table : tables) {
+            if (result.length() > bodyStart) {
+                result.append("\n");
+            }
+            result.append(table);
         }
 
-        String tomlContent = writer.write(data);
-        result.append(tomlContent);
-
         return result.toString();
     }
 
     @Override
     public String updateValue(String current, String key, Object value) throws IOException {
+        if (current != null && !current.trim().isEmpty()) {
+            Index patched = index(current).patch(Patches.nest(key, value), List.of(key));
+            if (patched != null) {
+                return patched.content();
+            }
+        }
+
         Map<String, Object> data = read(current);
         setNestedValue(data, key, value);
         return write(current, data);
     }
 
+    @Override
+    public Index index(String content) {
+        return new TomlDocumentIndex(content);
+    }
+
     @Override
     public String[] getSupportedExtensions() {
         return new String[]{"toml"};
     }
 
+    private boolean isTable(Object value) {
+        if (value instanceof Map) {
+            return true;
+        }
+        return value instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Map;
+    }
+
+    private void appendComments(StringBuilder result, String current) {
+        boolean found = false;
+        if (current != null && !current.trim().isEmpty()) {
+            String[] lines = current.split("\n");
+            for (String line : lines) {
+                if (line.trim().startsWith("#")) {
+                    result.append(line).append("\n");
+                    found = true;
+                }
+            }
+        }
+
+        if (found) {
+            result.append("\n");
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void setNestedValue(Map<String, Object> data, @NotNull String key, Object value) {
         String[] parts = key.split("\\.");
@@ -0,0 +1,572 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import net.rubrion.config.common.adapter.config.Patches.Edit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Line index over a TOML document. Records the value span of every key line and
+ * the end of every table section, so changed values are rewritten in place and new
+ * keys are inserted after the last key line of their table. New tables are appended
+ * at the end of the document. Documents with dotted keys, keys that contain dots,
+ * and changes inside arrays of tables are left to a full write.
+ */
+final class TomlDocumentIndex implements PatchableConfigAdapter.Index {
+    private static final Pattern BARE_KEY = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final String ROOT = "";
+
+    private final String content;
+    private final Map<String, int[]> values = new HashMap<>();
+    private final Map<String, Integer> sections = new HashMap<>();
+    private final Set<String> arrayTables = new HashSet<>();
+    private boolean scanned;
+    private boolean supported;
+
+    TomlDocumentIndex(@NotNull String content) {
+        this.content = content;
+    }
+
+    @Override
+    public String content() {
+        return content;
+    }
+
+    @Override
+    public @Nullable TomlDocumentIndex patch(Map<String, Object> data, Collection<String> changedKeys) {
+        if (!scan()) {
+            return null;
+        }
+
+        List<Edit> edits = new ArrayList<>();
+        Set<String> inserted = new HashSet<>();
+        for (String key : Patches.withoutDescendants(changedKeys)) {
+            if (!apply(key, data, edits, inserted)) {
+                return null;
+            }
+        }
+
+        String patched = Patches.splice(content, edits);
+        return patched == null ? null : new TomlDocumentIndex(patched);
+    }
+
+    private boolean apply(@NotNull String key, Map<String, Object> data, List<Edit> edits, Set<String> inserted) {
+        if (inArrayTable(key)) {
+            return false;
+        }
+
+        String[] parts = key.split("\\.");
+        Object value = Patches.lookup(data, parts, parts.length - 1);
+
+        int[] span = values.get(key);
+        if (span != null) {
+            String text = renderInline(value);
+            if (text == null) {
+                return false;
+            }
+            edits.add(new Edit(span[0], span[1], text, edits.size()));
+            return true;
+        }
+
+        if (isTable(key)) {
+            return replaceTable(key, value, data, edits, inserted);
+        }
+
+        int existing = parts.length - 2;
+        while (existing >= 0 && !isTable(join(parts, existing)) && !values.containsKey(join(parts, existing))) {
+            existing--;
+        }
+
+        String parent = existing < 0 ? ROOT : join(parts, existing);
+        if (values.containsKey(parent)) {
+            // an inline table, rewritten as a whole
+            return inserted.add(parent) ? apply(parent, data, edits, inserted) : true;
+        }
+
+        String missing = join(parts, existing + 1);
+        if (!inserted.add(missing)) {
+            return true;
+        }
+        return insert(parent, parts[existing + 1], Patches.lookup(data, parts, existing + 1), edits);
+    }
+
+    private boolean replaceTable(@NotNull String key, Object value, Map<String, Object> data,
+                                 List<Edit> edits, Set<String> inserted) {
+        if (!(value instanceof Map<?, ?> table)) {
+            return false;
+        }
+
+        String prefix = key + ".";
+        for (String path : paths()) {
+            if (path.startsWith(prefix) && !containsPath(data, path)) {
+                return false;
+            }
+        }
+
+        for (Object child : table.keySet()) {
+            if (!(child instanceof String name) || name.isEmpty() || name.indexOf('.') >= 0) {
+                return false;
+            }
+            if (!apply(prefix + name, data, edits, inserted)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean insert(@NotNull String parent, @NotNull String key, Object value, List<Edit> edits) {
+        Integer position = sections.get(parent);
+        if (position != null && !isTableValue(value)) {
+            String text = renderInline(value);
+            if (text == null) {
+                return false;
+            }
+            String line = renderKey(key) + " = " + text;
+            if (position < 0) {
+                edits.add(new Edit(0, 0, line + "\n", edits.size()));
+            } else {
+                edits.add(new Edit(position, position, "\n" + line, edits.size()));
+            }
+            return true;
+        }
+
+        StringBuilder section = new StringBuilder();
+        boolean rendered;
+        if (isTableValue(value)) {
+            rendered = renderTable(section, parent.isEmpty() ? key : parent + "." + key, value);
+        } else {
+            String text = renderInline(value);
+            rendered = text != null;
+            section.append('[').append(renderPath(parent)).append("]\n")
+                    .append(renderKey(key)).append(" = ").append(text).append('\n');
+        }
+        if (!rendered) {
+            return false;
+        }
+
+        String separator = content.isEmpty() ? "" : content.endsWith("\n") ? "\n" : "\n\n";
+        edits.add(new Edit(content.length(), content.length(), separator + section, edits.size()));
+        return true;
+    }
+
+    private boolean scan() {
+        if (scanned) {
+            return supported;
+        }
+        scanned = true;
+        sections.put(ROOT, -1);
+
+        String table = ROOT;
+        boolean arrayContext = false;
+        int pos = 0;
+        int length = content.length();
+        while (pos < length) {
+            pos = skipSpaces(pos);
+            if (pos >= length) {
+                break;
+            }
+
+            char c = content.charAt(pos);
+            if (c == '\n' || c == '\r' || c == '#') {
+                pos = nextLine(pos);
+                continue;
+            }
+
+            List<String> path = new ArrayList<>();
+            if (c == '[') {
+                boolean array = pos + 1 < length && content.charAt(pos + 1) == '[';
+                pos = parsePath(pos + (array ? 2 : 1), path);
+                if (pos < 0 || !content.startsWith(array ? "]]" : "]", pos)) {
+                    return false;
+                }
+                table = String.join(".", path);
+                if (array) {
+                    arrayTables.add(table);
+                }
+                arrayContext = inArrayTable(table);
+                if (!arrayContext) {
+                    sections.put(table, lineEnd(pos));
+                }
+                pos = nextLine(pos);
+                continue;
+            }
+
+            pos = parseKey(pos, path);
+            if (pos < 0) {
+                return false;
+            }
+            pos = skipSpaces(pos);
+            if (pos >= length || content.charAt(pos) != '=') {
+                return false;
+            }
+
+            int start = skipSpaces(pos + 1);
+            int end = scanValue(start);
+            if (end < 0) {
+                return false;
+            }
+
+            if (!arrayContext) {
+                String key = table.isEmpty() ? path.get(0) : table + "." + path.get(0);
+                values.put(key, new int[]{start, end});
+                sections.put(table, lineEnd(end));
+            }
+            pos = nextLine(end);
+        }
+
+        supported = true;
+        return true;
+    }
+
+    private int parsePath(int pos, List<String> path) {
+        while (true) {
+            pos = parseKey(skipSpaces(pos), path);
+            if (pos < 0) {
+                return -1;
+            }
+            pos = skipSpaces(pos);
+            if (pos >= content.length() || content.charAt(pos) != '.') {
+                return pos;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Parses a single bare or quoted key. Keys that cannot be addressed in dot
+     * notation are not supported.
+     */
+    private int parseKey(int pos, List<String> path) {
+        if (pos >= content.length()) {
+            return -1;
+        }
+
+        String key;
+        char c = content.charAt(pos);
+        if (c == '"' || c == '\'') {
+            int end = content.indexOf(c, pos + 1);
+            if (end < 0) {
+                return -1;
+            }
+            key = content.substring(pos + 1, end);
+            if (key.indexOf('\\') >= 0 || key.indexOf('\n') >= 0) {
+                return -1;
+            }
+            pos = end + 1;
+        } else {
+            int end = pos;
+            while (end < content.length() && isBareKeyChar(content.charAt(end))) {
+                end++;
+            }
+            key = content.substring(pos, end);
+            pos = end;
+        }
+
+        if (key.isEmpty() || key.indexOf('.') >= 0) {
+            return -1;
+        }
+        path.add(key);
+        return pos;
+    }
+
+    private int scanValue(int pos) {
+        if (pos >= content.length()) {
+            return -1;
+        }
+
+        char c = content.charAt(pos);
+        if (c == '"' || c == '\'') {
+            return scanString(pos);
+        }
+
+        if (c == '[' || c == '{') {
+            int depth = 0;
+            while (pos < content.length()) {
+                char current = content.charAt(pos);
+                if (current == '"' || current == '\'') {
+                    pos = scanString(pos);
+                    if (pos < 0) {
+                        return -1;
+                    }
+                    continue;
+                }
+                if (current == '#') {
+                    pos = lineEnd(pos);
+                    continue;
+                }
+                if (current == '[' || current == '{') {
+                    depth++;
+                } else if (current == ']' || current == '}') {
+                    depth--;
+                    if (depth == 0) {
+                        return pos + 1;
+                    }
+                }
+                pos++;
+            }
+            return -1;
+        }
+
+        int end = pos;
+        while (end < content.length() && content.charAt(end) != '#'
+                && content.charAt(end) != '\n' && content.charAt(end) != '\r') {
+            end++;
+        }
+        while (end > pos && Character.isWhitespace(content.charAt(end - 1))) {
+            end--;
+        }
+        return end > pos ? end : -1;
+    }
+
+    private int scanString(int pos) {
+        char quote = content.charAt(pos);
+        boolean basic = quote == '"';
+        String triple = String.valueOf(quote).repeat(3);
+
+        if (content.startsWith(triple, pos)) {
+            int end = basic ? findUnescaped(triple, pos + 3) : content.indexOf(triple, pos + 3);
+            if (end < 0) {
+                return -1;
+            }
+            // up to two quotes directly before the closing delimiter belong to the content
+            int close = end;
+            while (close - end < 2 && close + 3 < content.length() && content.charAt(close + 3) == quote) {
+                close++;
+            }
+            return close + 3;
+        }
+
+        int end = basic ? findUnescaped(String.valueOf(quote), pos + 1) : content.indexOf(quote, pos + 1);
+        if (end < 0 || content.substring(pos, end).indexOf('\n') >= 0) {
+            return -1;
+        }
+        return end + 1;
+    }
+
+    private int findUnescaped(@NotNull String delimiter, int pos) {
+        while (pos < content.length()) {
+            char c = content.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+                continue;
+            }
+            if (content.startsWith(delimiter, pos)) {
+                return pos;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    private int skipSpaces(int pos) {
+        while (pos < content.length() && (content.charAt(pos) == ' ' || content.charAt(pos) == '\t')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int lineEnd(int pos) {
+        int end = content.indexOf('\n', pos);
+        if (end < 0) {
+            return content.length();
+        }
+        return end > 0 && content.charAt(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    private int nextLine(int pos) {
+        int end = content.indexOf('\n', pos);
+        return end < 0 ? content.length() : end + 1;
+    }
+
+    private boolean inArrayTable(@NotNull String path) {
+        for (String array : arrayTables) {
+            if (path.equals(array) || path.startsWith(array + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isTable(@NotNull String path) {
+        if (sections.containsKey(path)) {
+            return true;
+        }
+        String prefix = path + ".";
+        for (String known : paths()) {
+            if (known.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private @NotNull Set<String> paths() {
+        Set<String> paths = new HashSet<>(values.keySet());
+        paths.addAll(sections.keySet());
+        paths.remove(ROOT);
+        return paths;
+    }
+
+    private static boolean containsPath(Map<?, ?> data, @NotNull String path) {
+        Object current = data;
+        for (String part : path.split("\\.")) {
+            if (!(current instanceof Map<?, ?> map) || !map.containsKey(part)) {
+                return false;
+            }
+            current = map.get(part);
+        }
+        return true;
+    }
+
+    private static boolean renderTable(StringBuilder out, @NotNull String path, Object value) {
+        if (value instanceof List<?> list) {
+            for (Object element : list) {
+                out.append("[[").append(renderPath(path)).append("]]\n");
+                if (!(element instanceof Map<?, ?> map) || !renderBody(out, path, map)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        out.append('[').append(renderPath(path)).append("]\n");
+        return renderBody(out, path, (Map<?, ?>) value);
+    }
+
+    private static boolean renderBody(StringBuilder out, @NotNull String path, @NotNull Map<?, ?> table) {
+        List<Map.Entry<?, ?>> tables = new ArrayList<>();
+        for (Map.Entry<?, ?> entry : table.entrySet()) {
+            if (!(entry.getKey() instanceof String key) || key.isEmpty() || key.indexOf('.') >= 0) {
+                return false;
+            }
+            if (isTableValue(entry.getValue())) {
+                tables.add(entry);
+                continue;
+            }
+            String text = renderInline(entry.getValue());
+            if (text == null) {
+                return false;
+            }
+            out.append(renderKey(key)).append(" = ").append(text).append('\n');
+        }
+
+        for (Map.Entry<?, ?> entry : tables) {
+            out.append('\n');
+            if (!renderTable(out, path + "." + entry.getKey(), entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTableValue(Object value) {
+        if (value instanceof Map) {
+            return true;
+        }
+        return value instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Map;
+    }
+
+    /**
+     * Renders a value in inline form. Returns null for values TOML cannot hold
+     * or that the format engine does not render itself, such as null or dates.
+     */
+    private static @Nullable String renderInline(Object value) {
+        if (value instanceof String string) {
+            return quote(string);
+        }
+        if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            return value.toString();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            return Double.isFinite(number) ? value.toString() : null;
+        }
+
+        if (value instanceof List<?> list) {
+            StringJoiner joiner = new StringJoiner(", ", "[", "]");
+            for (Object element : list) {
+                String text = renderInline(element);
+                if (text == null) {
+                    return null;
+                }
+                joiner.add(text);
+            }
+            return joiner.toString();
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            if (map.isEmpty()) {
+                return "{}";
+            }
+            StringJoiner joiner = new StringJoiner(", ", "{ ", " }");
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String text = renderInline(entry.getValue());
+                if (!(entry.getKey() instanceof String key) || key.isEmpty() || text == null) {
+                    return null;
+                }
+                joiner.add(renderKey(key) + " = " + text);
+            }
+            return joiner.toString();
+        }
+
+        return null;
+    }
+
+    private static @NotNull String renderPath(@NotNull String path) {
+        StringJoiner joiner = new StringJoiner(".");
+        for (String part : path.split("\\.")) {
+            joiner.add(renderKey(part));
+        }
+        return joiner.toString();
+    }
+
+    private static @NotNull String renderKey(@NotNull String key) {
+        return BARE_KEY.matcher(key).matches() ? key : quote(key);
+    }
+
+    private static @NotNull String quote(@NotNull String value) {
+        StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> result.append("\\\"");
+                case '\\' -> result.append("\\\\");
+                case '\b' -> result.append("\\b");
+                case '\t' -> result.append("\\t");
+                case '\n' -> result.append("\\n");
+                case '\f' -> result.append("\\f");
+                case '\r' -> result.append("\\r");
+                default -> {
+                    if (c < 0x20 || c == 0x7f) {
+                        result.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    private static boolean isBareKeyChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+
+    private static @NotNull String join(String @NotNull [] parts, int last) {
+        return String.join(".", Arrays.copyOfRange(parts, 0, last + 1));
+    }
+}
@@ -10,7 +10,6 @@
  */
 package net.rubrion.config.common.adapter.config;
 
-import net.rubrion.config.api.adapter.ConfigAdapter;
 import org.jetbrains.annotations.NotNull;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -19,17 +18,27 @@ import java.io.IOException;
 import java.util.*;
 
 /**
- * YAML adapter using SnakeYAML, preserves comments
+ * YAML adapter using SnakeYAML, preserves comments.
+ * Updates are patched into the existing text where possible, see {@link YamlDocumentIndex}.
+ * SnakeYAML instances are not thread-safe, so each call borrows one from a pool; the
+ * adapter itself can be used by several threads at once.
  */
-public class YamlConfigAdapter implements ConfigAdapter {
-    private final Yaml yaml;
+public class YamlConfigAdapter implements FragmentedConfigAdapter, PatchableConfigAdapter {
+    private final InstancePool<Yaml> yaml;
+    private final InstancePool<Yaml> flowYaml;
 
     public YamlConfigAdapter() {
         DumperOptions options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
         options.setPrettyFlow(true);
         options.setIndent(2);
-        this.yaml = new Yaml(options);
+        this.yaml = new InstancePool<>(() -> new Yaml(options));
+
+        DumperOptions flowOptions = new DumperOptions();
+        flowOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.FLOW);
+        flowOptions.setSplitLines(false);
+        flowOptions.setWidth(Integer.MAX_VALUE);
+        this.flowYaml = new InstancePool<>(() -> new Yaml(flowOptions));
     }
 
     @Override
@@ -40,7 +49,7 @@ public class YamlConfigAdapter implements ConfigAdapter {
         }
 
         try {
-            Object loaded = yaml.load(content);
+            Object loaded = yaml.apply(instance -> instance.load(content));
             if (loaded instanceof Map) {
                 return (Map<String, Object>) loaded;
             }
@@ -52,40 +61,71 @@ public class YamlConfigAdapter implements ConfigAdapter {
 
     @Override
     public String write(String current, Map<String, Object> data) {
-        List<String> comments = new ArrayList<>();
-        if (current != null && !current.trim().isEmpty()) {
-            String[] lines = current.split("\n");
-            for (String line : lines) {
-                if (line.trim().startsWith("#")) {
-                    comments.add(line);
-                }
-            }
+        StringBuilder result = new StringBuilder();
+        appendComments(result, current);
+
+        String yamlContent = yaml.apply(instance -> instance.dump(data));
+        result.append(yamlContent);
+
+        return result.toString();
+    }
+
+    @Override
+    public String writeFragment(Object key, Object value) {
+        return yaml.apply(instance -> instance.dump(Collections.singletonMap(key, value)));
+    }
+
+    @Override
+    public String assemble(String current, Map<String, Object> data, Map<Object, String> fragments) {
+        if (fragments.isEmpty()) {
+            return write(current, data);
         }
 
         StringBuilder result = new StringBuilder();
+        appendComments(result, current);
 
-        for (String comment : comments) {
-            result.append(comment).append("\n");
+        for (String fragment : fragments.values()) {
+            result.append(fragment);
         }
 
-        String yamlContent = yaml.dump(data);
-        result.append(yamlContent);
-
         return result.toString();
     }
 
     @Override
     public String updateValue(String current, String key, Object value) throws IOException {
+        if (current != null && !current.trim().isEmpty()) {
+            Index patched = index(current).patch(Patches.nest(key, value), List.of(key));
+            if (patched != null) {
+                return patched.content();
+            }
+        }
+
         Map<String, Object> data = read(current);
         setNestedValue(data, key, value);
         return write(current, data);
     }
 
+    @Override
+    public Index index(String content) {
+        return new YamlDocumentIndex(content, yaml, flowYaml);
+    }
+
     @Override
     public String[] getSupportedExtensions() {
         return new String[]{"yml", "yaml"};
     }
 
+    private void appendComments(StringBuilder result, String current) {
+        if (current != null && !current.trim().isEmpty()) {
+            String[] lines = current.split("\n");
+            for (String line : lines) {
+                if (line.trim().startsWith("#")) {
+                    result.append(line).append("\n");
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void setNestedValue(Map<String, Object> data, @NotNull String key, Object value) {
         String[] parts = key.split("\\.");
@@ -0,0 +1,251 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import net.rubrion.config.common.adapter.config.Patches.Edit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.nodes.*;
+
+import java.io.StringReader;
+import java.util.*;
+
+/**
+ * Node-to-text-span index over a YAML document, built from the SnakeYAML compose
+ * tree. Patches rewrite only the text of changed scalars and blocks; new keys are
+ * appended as lines at the end of their parent block mapping. Anchored nodes, block
+ * scalars and changes between scalars and collections are left to a full write.
+ */
+final class YamlDocumentIndex implements PatchableConfigAdapter.Index {
+    private final String content;
+    private final InstancePool<Yaml> blockYaml;
+    private final InstancePool<Yaml> flowYaml;
+    private final boolean codePointMarks;
+    private Node root;
+    private boolean composed;
+
+    YamlDocumentIndex(@NotNull String content, @NotNull InstancePool<Yaml> blockYaml,
+                      @NotNull InstancePool<Yaml> flowYaml) {
+        this.content = content;
+        this.blockYaml = blockYaml;
+        this.flowYaml = flowYaml;
+        this.codePointMarks = content.length() != content.codePointCount(0, content.length());
+    }
+
+    @Override
+    public String content() {
+        return content;
+    }
+
+    @Override
+    public @Nullable YamlDocumentIndex patch(Map<String, Object> data, Collection<String> changedKeys) {
+        if (!(root() instanceof MappingNode rootMapping)) {
+            return null;
+        }
+
+        List<Edit> edits = new ArrayList<>();
+        Set<String> inserted = new HashSet<>();
+        int order = 0;
+
+        outer:
+        for (String key : Patches.withoutDescendants(changedKeys)) {
+            String[] parts = key.split("\\.");
+            MappingNode parent = rootMapping;
+
+            for (int i = 0; i < parts.length; i++) {
+                if (parent.getAnchor() != null) {
+                    return null;
+                }
+
+                NodeTuple tuple = find(parent, parts[i]);
+                if (tuple == null) {
+                    String missing = String.join(".", Arrays.copyOfRange(parts, 0, i + 1));
+                    if (!inserted.add(missing)) {
+                        continue outer;
+                    }
+                    Edit edit = insert(parent, parts[i], Patches.lookup(data, parts, i), order++);
+                    if (edit == null) {
+                        return null;
+                    }
+                    edits.add(edit);
+                    continue outer;
+                }
+
+                Node valueNode = tuple.getValueNode();
+                if (i == parts.length - 1) {
+                    Edit edit = replace(valueNode, Patches.lookup(data, parts, i), order++);
+                    if (edit == null) {
+                        return null;
+                    }
+                    edits.add(edit);
+                } else if (valueNode instanceof MappingNode mapping) {
+                    parent = mapping;
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        String patched = Patches.splice(content, edits);
+        return patched == null ? null : new YamlDocumentIndex(patched, blockYaml, flowYaml);
+    }
+
+    private @Nullable Node root() {
+        if (!composed) {
+            composed = true;
+            try {
+                root = blockYaml.apply(yaml -> yaml.compose(new StringReader(content)));
+            } catch (RuntimeException e) {
+                root = null;
+            }
+        }
+        return root;
+    }
+
+    private @Nullable Edit replace(@NotNull Node node, Object value, int order) {
+        if (node.getAnchor() != null) {
+            return null;
+        }
+
+        if (node instanceof ScalarNode scalar) {
+            if (isBlockScalar(scalar) || value instanceof Map || value instanceof List) {
+                return null;
+            }
+            String text = renderInline(blockYaml, value);
+            return text == null ? null : new Edit(offset(node.getStartMark()), offset(node.getEndMark()), text, order);
+        }
+
+        if (!(value instanceof Map || value instanceof List)) {
+            return null;
+        }
+
+        CollectionNode<?> collection = (CollectionNode<?>) node;
+        int start = offset(node.getStartMark());
+        if (collection.getFlowStyle() == DumperOptions.FlowStyle.FLOW) {
+            String text = renderInline(flowYaml, value);
+            return text == null ? null : new Edit(start, offset(node.getEndMark()), text, order);
+        }
+
+        int end = contentEnd(node);
+        if (end < 0) {
+            return null;
+        }
+        String block = stripNewline(dump(blockYaml, value));
+        return new Edit(start, end, indent(block, column(start), false), order);
+    }
+
+    private @Nullable Edit insert(@NotNull MappingNode parent, @NotNull String key, Object value, int order) {
+        if (parent.getFlowStyle() != DumperOptions.FlowStyle.BLOCK || parent.getValue().isEmpty()) {
+            return null;
+        }
+
+        int column = column(offset(parent.getValue().get(0).getKeyNode().getStartMark()));
+        String block = indent(stripNewline(dump(blockYaml, Collections.singletonMap(key, value))), column, true);
+
+        int end = contentEnd(parent);
+        if (end >= 0) {
+            int lineEnd = content.indexOf('\n', end);
+            int position = lineEnd < 0 ? content.length() : lineEnd;
+            if (position > 0 && content.charAt(position - 1) == '\r') {
+                position--;
+            }
+            return new Edit(position, position, "\n" + block, order);
+        }
+
+        // a trailing block scalar owns its line breaks, so the entry goes after them
+        if (!(lastLeaf(parent) instanceof ScalarNode scalar) || !isBlockScalar(scalar)) {
+            return null;
+        }
+        int position = offset(scalar.getEndMark());
+        boolean lineStart = position == 0 || content.charAt(position - 1) == '\n';
+        return new Edit(position, position, lineStart ? block + "\n" : "\n" + block, order);
+    }
+
+    private static @NotNull Node lastLeaf(@NotNull Node node) {
+        if (node instanceof MappingNode mapping && mapping.getFlowStyle() == DumperOptions.FlowStyle.BLOCK
+                && !mapping.getValue().isEmpty()) {
+            return lastLeaf(mapping.getValue().get(mapping.getValue().size() - 1).getValueNode());
+        }
+        if (node instanceof SequenceNode sequence && sequence.getFlowStyle() == DumperOptions.FlowStyle.BLOCK
+                && !sequence.getValue().isEmpty()) {
+            return lastLeaf(sequence.getValue().get(sequence.getValue().size() - 1));
+        }
+        return node;
+    }
+
+    private int contentEnd(@NotNull Node node) {
+        if (node instanceof ScalarNode scalar) {
+            return isBlockScalar(scalar) ? -1 : offset(node.getEndMark());
+        }
+
+        if (node instanceof MappingNode mapping) {
+            List<NodeTuple> tuples = mapping.getValue();
+            if (mapping.getFlowStyle() == DumperOptions.FlowStyle.FLOW || tuples.isEmpty()) {
+                return offset(node.getEndMark());
+            }
+            return contentEnd(tuples.get(tuples.size() - 1).getValueNode());
+        }
+
+        if (node instanceof SequenceNode sequence) {
+            List<Node> items = sequence.getValue();
+            if (sequence.getFlowStyle() == DumperOptions.FlowStyle.FLOW || items.isEmpty()) {
+                return offset(node.getEndMark());
+            }
+            return contentEnd(items.get(items.size() - 1));
+        }
+
+        return -1;
+    }
+
+    private static @Nullable NodeTuple find(@NotNull MappingNode mapping, @NotNull String key) {
+        for (NodeTuple tuple : mapping.getValue()) {
+            if (tuple.getKeyNode() instanceof ScalarNode scalar && key.equals(scalar.getValue())) {
+                return tuple;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlockScalar(@NotNull ScalarNode scalar) {
+        return scalar.getScalarStyle() == DumperOptions.ScalarStyle.LITERAL
+                || scalar.getScalarStyle() == DumperOptions.ScalarStyle.FOLDED;
+    }
+
+    private static @Nullable String renderInline(@NotNull InstancePool<Yaml> yaml, Object value) {
+        String text = stripNewline(dump(yaml, value));
+        return text.indexOf('\n') >= 0 ? null : text;
+    }
+
+    private static @NotNull String dump(@NotNull InstancePool<Yaml> yaml, Object value) {
+        return yaml.apply(instance -> instance.dump(value));
+    }
+
+    private static @NotNull String stripNewline(@NotNull String text) {
+        return text.endsWith("\n") ? text.substring(0, text.length() - 1) : text;
+    }
+
+    private static @NotNull String indent(@NotNull String block, int column, boolean firstLine) {
+        String prefix = " ".repeat(column);
+        String indented = block.replace("\n", "\n" + prefix);
+        return firstLine ? prefix + indented : indented;
+    }
+
+    private int offset(@NotNull Mark mark) {
+        return codePointMarks ? content.offsetByCodePoints(0, mark.getIndex()) : mark.getIndex();
+    }
+
+    private int column(int offset) {
+        return offset - (content.lastIndexOf('\n', offset - 1) + 1);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.type;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Number parsing and range checks shared by the type adapters and the primitive accessors
+ * of configs. Nothing here throws for values that do not fit.
+ */
+public final class Numbers {
+    private static final Pattern DECIMAL = Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+    private static final int SAFE_LONG_DIGITS = 18;
+
+    private Numbers() {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    /**
+     * Checks whether a number converts to an int without dropping a fraction or wrapping around.
+     */
+    public static boolean fitsInt(@NotNull Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return true;
+        }
+        int narrowed = number.intValue();
+        return number.longValue() == narrowed && number.doubleValue() == narrowed;
+    }
+
+    /**
+     * Checks whether a number converts to a long without dropping a fraction or wrapping around.
+     */
+    public static boolean fitsLong(@NotNull Number number) {
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return true;
+        }
+        if (number instanceof BigInteger big) {
+            return big.bitLength() < Long.SIZE;
+        }
+        double value = number.doubleValue();
+        return value == Math.rint(value) && value >= -0x1p63 && value < 0x1p63;
+    }
+
+    /**
+     * Parses like {@link Long#parseLong(String)} but returns null instead of throwing.
+     */
+    static Long parseLong(String text) {
+        int length = text.length();
+        int start = length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+') ? 1 : 0;
+        if (start == length) {
+            return null;
+        }
+        for (int i = start; i < length; i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return null;
+            }
+        }
+
+        if (length - start <= SAFE_LONG_DIGITS) {
+            return Long.parseLong(text);
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses like {@link Double#parseDouble(String)} but returns null instead of throwing
+     * for text that is obviously not a number. Only the rare special forms, like hex
+     * floats or surrounding whitespace, are left to the parser.
+     */
+    static Double parseDouble(String text) {
+        if (DECIMAL.matcher(text).matches()) {
+            return Double.parseDouble(text);
+        }
+        if (!isSpecialForm(text)) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isSpecialForm(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char last = text.charAt(text.length() - 1);
+        return text.contains("NaN") || text.contains("Infinity") || text.indexOf('x') >= 0 || text.indexOf('X') >= 0
+                || last == 'f' || last == 'F' || last == 'd' || last == 'D'
+                || Character.isWhitespace(text.charAt(0)) || Character.isWhitespace(last);
+    }
+}
@@ -16,11 +16,18 @@ import net.rubrion.config.api.adapter.TypeAdapterRegistry;
 
 import java.util.*;
 
+/**
+ * Registry resolving adapters through a {@link ClassValue} cache. Each target class is
+ * resolved once, including matches through its superclasses and interfaces and the
+ * absence of any adapter; later lookups are a single cache read without locking.
+ * Registering replaces the adapter table and the cache as a whole, so concurrent
+ * lookups see either the old or the new registrations, never a mix.
+ */
 public class TypeAdapterRegistryImpl implements TypeAdapterRegistry {
-    private final Map<Class<?>, TypeAdapter<?>> adapters;
+    private volatile Map<Class<?>, TypeAdapter<?>> adapters = Map.of();
+    private volatile Resolver resolver = new Resolver(adapters);
 
     public TypeAdapterRegistryImpl() {
-        this.adapters = new HashMap<>();
         registerDefaultAdapters();
     }
 
@@ -42,22 +49,17 @@ public class TypeAdapterRegistryImpl implements TypeAdapterRegistry {
     }
 
     @Override
-    public <T> void register(Class<T> type, TypeAdapter<T> adapter) {
-        adapters.put(type, adapter);
+    public synchronized <T> void register(Class<T> type, TypeAdapter<T> adapter) {
+        Map<Class<?>, TypeAdapter<?>> updated = new LinkedHashMap<>(adapters);
+        updated.put(type, adapter);
+        adapters = Collections.unmodifiableMap(updated);
+        resolver = new Resolver(adapters);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> TypeAdapter<T> getAdapter(Class<T> type) {
-        TypeAdapter<?> adapter = adapters.get(type);
-        if (adapter == null) {
-            for (Map.Entry<Class<?>, TypeAdapter<?>> entry : adapters.entrySet()) {
-                if (entry.getKey().isAssignableFrom(type)) {
-                    return (TypeAdapter<T>) entry.getValue();
-                }
-            }
-        }
-        return (TypeAdapter<T>) adapter;
+        return (TypeAdapter<T>) resolver.get(type).adapter();
     }
 
     @Override
@@ -83,4 +85,44 @@ public class TypeAdapterRegistryImpl implements TypeAdapterRegistry {
 
         throw new IllegalArgumentException("No adapter found for type: " + targetType.getName());
     }
+
+    @Override
+    public Object tryConvert(Object value, Class<?> targetType) {
+        if (value == null || targetType.isInstance(value)) {
+            return value;
+        }
+
+        TypeAdapter<?> adapter = getAdapter(targetType);
+        return adapter != null ? adapter.tryFromConfig(value) : TypeAdapter.FAILED;
+    }
+
+    /**
+     * Resolves a class to the adapter registered for it, or else to the first adapter in
+     * registration order whose type is a superclass or interface of it.
+     */
+    private static final class Resolver extends ClassValue<Resolution> {
+        private final Map<Class<?>, TypeAdapter<?>> adapters;
+
+        private Resolver(Map<Class<?>, TypeAdapter<?>> adapters) {
+            this.adapters = adapters;
+        }
+
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            TypeAdapter<?> adapter = adapters.get(type);
+            if (adapter != null) {
+                return new Resolution(adapter);
+            }
+            for (Map.Entry<Class<?>, TypeAdapter<?>> entry : adapters.entrySet()) {
+                if (entry.getKey().isAssignableFrom(type)) {
+                    return new Resolution(entry.getValue());
+                }
+            }
+            return Resolution.NONE;
+        }
+    }
+
+    private record Resolution(TypeAdapter<?> adapter) {
+        private static final Resolution NONE = new Resolution(null);
+    }
 }
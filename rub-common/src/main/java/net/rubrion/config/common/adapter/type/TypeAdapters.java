@@ -41,6 +41,19 @@ class IntegerAdapter implements TypeAdapter<Integer> {
         return Integer.parseInt(configValue.toString());
     }
 
+    @Override
+    public Object tryFromConfig(Object configValue) {
+        if (configValue == null) return null;
+        if (configValue instanceof Number number) {
+            return Numbers.fitsInt(number) ? number.intValue() : FAILED;
+        }
+        Long parsed = Numbers.parseLong(configValue.toString());
+        if (parsed == null || parsed < Integer.MIN_VALUE || parsed > Integer.MAX_VALUE) {
+            return FAILED;
+        }
+        return parsed.intValue();
+    }
+
     @Override
     public Object toConfig(Integer value) {
         return value;
@@ -62,6 +75,16 @@ class LongAdapter implements TypeAdapter<Long> {
         return Long.parseLong(configValue.toString());
     }
 
+    @Override
+    public Object tryFromConfig(Object configValue) {
+        if (configValue == null) return null;
+        if (configValue instanceof Number number) {
+            return Numbers.fitsLong(number) ? number.longValue() : FAILED;
+        }
+        Long parsed = Numbers.parseLong(configValue.toString());
+        return parsed != null ? parsed : FAILED;
+    }
+
     @Override
     public Object toConfig(Long value) {
         return value;
@@ -83,6 +106,16 @@ class DoubleAdapter implements TypeAdapter<Double> {
         return Double.parseDouble(configValue.toString());
     }
 
+    @Override
+    public Object tryFromConfig(Object configValue) {
+        if (configValue == null) return null;
+        if (configValue instanceof Number) {
+            return ((Number) configValue).doubleValue();
+        }
+        Double parsed = Numbers.parseDouble(configValue.toString());
+        return parsed != null ? parsed : FAILED;
+    }
+
     @Override
     public Object toConfig(Double value) {
         return value;
@@ -104,6 +137,18 @@ class FloatAdapter implements TypeAdapter<Float> {
         return Float.parseFloat(configValue.toString());
     }
 
+    @Override
+    public Object tryFromConfig(Object configValue) {
+        if (configValue == null) return null;
+        if (configValue instanceof Number) {
+            return ((Number) configValue).floatValue();
+        }
+        if (Numbers.parseDouble(configValue.toString()) == null) {
+            return FAILED;
+        }
+        return Float.parseFloat(configValue.toString());
+    }
+
     @Override
     public Object toConfig(Float value) {
         return value;
@@ -0,0 +1,204 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Insertion ordered map backed by a single array of alternating keys and values.
+ * Needs no entry objects and no hash table, which makes it much smaller than a
+ * {@link LinkedHashMap} for the small sections configs consist of. Lookups scan
+ * the keys, comparing by identity first since parsed keys are interned.
+ * A {@link #freeze() frozen} map rejects every modification.
+ */
+final class CompactMap extends AbstractMap<String, Object> {
+    private static final Object[] EMPTY = {};
+    private static final int MIN_CAPACITY = 4;
+
+    private Object[] table;
+    private int size;
+    private boolean frozen;
+
+    CompactMap() {
+        this.table = EMPTY;
+    }
+
+    CompactMap(int capacity) {
+        this.table = capacity == 0 ? EMPTY : new Object[capacity * 2];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : table[index + 1];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        checkMutable();
+        int index = indexOf(key);
+        if (index >= 0) {
+            Object previous = table[index + 1];
+            table[index + 1] = value;
+            return previous;
+        }
+
+        int end = size * 2;
+        if (end == table.length) {
+            table = Arrays.copyOf(table, Math.max(MIN_CAPACITY, size + (size >> 1) + 1) * 2);
+        }
+        table[end] = key;
+        table[end + 1] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        checkMutable();
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = table[index + 1];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        checkMutable();
+        Arrays.fill(table, 0, size * 2, null);
+        size = 0;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    void freeze() {
+        frozen = true;
+    }
+
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Config snapshots cannot be modified");
+        }
+    }
+
+    private int indexOf(Object key) {
+        int end = size * 2;
+        for (int i = 0; i < end; i += 2) {
+            if (table[i] == key) {
+                return i;
+            }
+        }
+        if (key == null) {
+            return -1;
+        }
+        for (int i = 0; i < end; i += 2) {
+            if (key.equals(table[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        checkMutable();
+        int end = size * 2;
+        System.arraycopy(table, index + 2, table, index, end - index - 2);
+        table[end - 2] = null;
+        table[end - 1] = null;
+        size--;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<>() {
+                private int next;
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size * 2;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next;
+                    next += 2;
+                    return new TableEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    removeAt(last);
+                    next = last;
+                    last = -1;
+                }
+            };
+        }
+    }
+
+    private final class TableEntry extends SimpleEntry<String, Object> {
+        private final int index;
+
+        private TableEntry(int index) {
+            super((String) table[index], table[index + 1]);
+            this.index = index;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            checkMutable();
+            super.setValue(value);
+            Object previous = table[index + 1];
+            table[index + 1] = value;
+            return previous;
+        }
+    }
+}
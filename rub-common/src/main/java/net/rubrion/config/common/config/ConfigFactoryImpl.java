@@ -15,6 +15,9 @@ import net.rubrion.config.api.adapter.ConfigAdapter;
 import net.rubrion.config.api.adapter.TypeAdapterRegistry;
 import net.rubrion.config.api.config.Config;
 import net.rubrion.config.api.config.ConfigFactory;
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.api.config.IoStats;
+import net.rubrion.config.api.config.KeyPoolStats;
 import net.rubrion.config.api.exception.ConfigSaveException;
 import net.rubrion.config.common.adapter.config.JsonConfigAdapter;
 import net.rubrion.config.common.adapter.config.TomlConfigAdapter;
@@ -31,16 +34,39 @@ import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
 
-public class ConfigFactoryImpl implements ConfigFactory {
+public class ConfigFactoryImpl implements ConfigFactory, AutoCloseable {
     private static final Logger LOGGER = ConfigApiProvider.get().logger();
 
     private Path configDirectory;
     private final Map<String, ConfigAdapter> adapters;
     private final TypeAdapterRegistry typeRegistry;
-
+    private final ConfigFlusher flusher;
+    private final ConfigIoScheduler ioScheduler;
+    private final boolean ownsWorkers;
+    private final KeyPool keyPool = new KeyPool();
+    private ConfigOptions defaultOptions;
+
+    /**
+     * Creates a factory with its own flusher and I/O threads. Their pending writes only
+     * reach the disk if the factory is {@link #close() closed} before the JVM exits.
+     */
     public ConfigFactoryImpl(Path configDirectory, TypeAdapterRegistry typeRegistry) {
+        this(configDirectory, typeRegistry, new ConfigFlusher(), new ConfigIoScheduler(), true);
+    }
+
+    public ConfigFactoryImpl(Path configDirectory, TypeAdapterRegistry typeRegistry,
+                             ConfigFlusher flusher, ConfigIoScheduler ioScheduler) {
+        this(configDirectory, typeRegistry, flusher, ioScheduler, false);
+    }
+
+    private ConfigFactoryImpl(Path configDirectory, TypeAdapterRegistry typeRegistry,
+                              ConfigFlusher flusher, ConfigIoScheduler ioScheduler, boolean ownsWorkers) {
         this.configDirectory = configDirectory;
         this.typeRegistry = typeRegistry;
+        this.flusher = flusher;
+        this.ioScheduler = ioScheduler;
+        this.ownsWorkers = ownsWorkers;
+        this.defaultOptions = ConfigOptions.defaults();
         this.adapters = new HashMap<>();
 
         registerAdapter(new JsonConfigAdapter());
@@ -56,12 +82,26 @@ public class ConfigFactoryImpl implements ConfigFactory {
 
     @Override
     public Config read(String filename) {
-        Path path = configDirectory.resolve(filename);
-        return read(path);
+        return read(filename, defaultOptions);
     }
 
     @Override
     public Config read(Path path) {
+        return read(path, defaultOptions);
+    }
+
+    @Override
+    public Config read(String filename, ConfigOptions options) {
+        Path path = configDirectory.resolve(filename);
+        return read(path, options);
+    }
+
+    @Override
+    public Config read(Path path, ConfigOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options cannot be null");
+        }
+
         if (!Files.exists(path)) {
             ensureFileExists(path);
         }
@@ -73,7 +113,7 @@ public class ConfigFactoryImpl implements ConfigFactory {
             throw new IllegalArgumentException("No adapter found for extension: " + extension);
         }
 
-        return new ConfigImpl(path, adapter, typeRegistry);
+        return new ConfigImpl(path, adapter, typeRegistry, options, flusher, ioScheduler, keyPool);
     }
 
     private void ensureFileExists(@NotNull Path path) {
@@ -127,4 +167,48 @@ public class ConfigFactoryImpl implements ConfigFactory {
     public Path getConfigDirectory() {
         return configDirectory;
     }
+
+    @Override
+    public void setDefaultOptions(ConfigOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options cannot be null");
+        }
+        this.defaultOptions = options;
+    }
+
+    @Override
+    public ConfigOptions getDefaultOptions() {
+        return defaultOptions;
+    }
+
+    @Override
+    public void flush() {
+        flusher.flushAll();
+        ioScheduler.flush();
+    }
+
+    /**
+     * Writes all pending changes. If this factory created its flusher and I/O threads
+     * itself, they are stopped as well; workers handed in are left to their owner,
+     * such as {@link net.rubrion.config.common.ConfigBootstrap#shutdown()}.
+     */
+    @Override
+    public void close() {
+        if (!ownsWorkers) {
+            flush();
+            return;
+        }
+        flusher.shutdown();
+        ioScheduler.shutdown();
+    }
+
+    @Override
+    public KeyPoolStats getKeyPoolStats() {
+        return keyPool.stats();
+    }
+
+    @Override
+    public IoStats getIoStats() {
+        return ioScheduler.stats();
+    }
 }
@@ -0,0 +1,229 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes config files according to the {@link ConfigOptions} of their config.
+ * Atomic writes go to a temp file in the target directory which then replaces
+ * the config file, so a crash never leaves a truncated config behind.
+ */
+final class ConfigFiles {
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private ConfigFiles() {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    static void write(@NotNull Path path, @NotNull String content, @NotNull ConfigOptions options) throws IOException {
+        Path target = Files.isSymbolicLink(path) ? path.toRealPath() : path;
+        Files.createDirectories(target.toAbsolutePath().getParent());
+
+        if (!options.isAtomicWrites()) {
+            writeBytes(target, content, options.isFsync());
+            return;
+        }
+
+        Path temp = createTemp(target);
+        try {
+            writeBytes(temp, content, options.isFsync());
+            replace(temp, target, true, options.isFsync());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Streams a document into a temp file next to the config and moves it over the
+     * config unless the file already holds the same bytes. Streamed documents always
+     * go through a temp file, as the comparison needs the complete new content;
+     * {@link ConfigOptions#isAtomicWrites()} only decides whether the move is atomic.
+     *
+     * @param persisted the checksum of the content last written to the file, or null if unknown
+     * @return the checksum of the streamed content
+     */
+    static @NotNull Checksum stream(@NotNull Path path, @NotNull ConfigOptions options,
+                                    @NotNull ContentWriter content, @Nullable Checksum persisted) throws IOException {
+        Path target = Files.isSymbolicLink(path) ? path.toRealPath() : path;
+        Files.createDirectories(target.toAbsolutePath().getParent());
+
+        Path temp = createTemp(target);
+        try {
+            Checksum checksum;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                CheckedOutputStream checked = new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), STREAM_BUFFER_SIZE), new CRC32());
+                Writer writer = new OutputStreamWriter(checked, StandardCharsets.UTF_8);
+                content.write(writer);
+                writer.flush();
+                if (options.isFsync()) {
+                    channel.force(true);
+                }
+                checksum = new Checksum(channel.size(), checked.getChecksum().getValue());
+            }
+
+            if (checksum.equals(persisted) && Files.exists(target) && Files.mismatch(temp, target) == -1L) {
+                return checksum;
+            }
+            replace(temp, target, options.isAtomicWrites(), options.isFsync());
+            return checksum;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static @NotNull Checksum checksum(byte @NotNull [] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return new Checksum(content.length, crc.getValue());
+    }
+
+    /**
+     * Creates the temp file that replaces the target. It is created like any new file
+     * rather than as a private temp file and takes over the permissions, ACL, owner and
+     * group of an existing target, as the move would otherwise reset them.
+     */
+    private static @NotNull Path createTemp(@NotNull Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp;
+        while (true) {
+            temp = directory.resolve("." + target.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                Files.createFile(temp);
+                break;
+            } catch (FileAlreadyExistsException ignored) {
+                // another writer picked the same name, try the next one
+            }
+        }
+
+        try {
+            copyAttributes(target, temp);
+        } catch (NoSuchFileException ignored) {
+            // the config is written for the first time, keep the defaults of a new file
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return temp;
+    }
+
+    /**
+     * Owner and group are only taken over where the process is allowed to change them.
+     */
+    private static void copyAttributes(@NotNull Path source, @NotNull Path temp) throws IOException {
+        PosixFileAttributeView posix = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (posix != null) {
+            PosixFileAttributes attributes = posix.readAttributes();
+            PosixFileAttributeView copy = Files.getFileAttributeView(temp, PosixFileAttributeView.class);
+            PosixFileAttributes current = copy.readAttributes();
+            try {
+                if (!attributes.owner().equals(current.owner())) {
+                    copy.setOwner(attributes.owner());
+                }
+                if (!attributes.group().equals(current.group())) {
+                    copy.setGroup(attributes.group());
+                }
+            } catch (FileSystemException ignored) {
+                // only privileged processes may hand a file to another owner; the new file
+                // stays with the writing user, which can still read and write it
+            }
+            copy.setPermissions(attributes.permissions());
+            return;
+        }
+
+        AclFileAttributeView acl = Files.getFileAttributeView(source, AclFileAttributeView.class);
+        if (acl != null) {
+            AclFileAttributeView copy = Files.getFileAttributeView(temp, AclFileAttributeView.class);
+            try {
+                copy.setOwner(acl.getOwner());
+            } catch (FileSystemException ignored) {
+                // see above, the ACL below still grants the same access
+            }
+            copy.setAcl(acl.getAcl());
+        }
+    }
+
+    /**
+     * Moves the temp file over the target. With fsync the directory is forced afterwards as
+     * well, as the rename itself is only durable once the directory entry is on disk.
+     */
+    private static void replace(@NotNull Path temp, @NotNull Path target, boolean atomic,
+                                boolean fsync) throws IOException {
+        move(temp, target, atomic);
+        if (fsync) {
+            forceDirectory(target.toAbsolutePath().getParent());
+        }
+    }
+
+    private static void move(@NotNull Path temp, @NotNull Path target, boolean atomic) throws IOException {
+        if (atomic) {
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                return;
+            } catch (AtomicMoveNotSupportedException ignored) {
+                // the file system cannot rename atomically, fall back to a plain replace
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void forceDirectory(@NotNull Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (AccessDeniedException | UnsupportedOperationException ignored) {
+            // directories cannot be opened on Windows, where NTFS journals the rename itself
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    private static void writeBytes(@NotNull Path path, @NotNull String content, boolean fsync) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(true);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface ContentWriter {
+        void write(@NotNull Writer out) throws IOException;
+    }
+
+    record Checksum(long length, long crc) {
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background flusher for configs in write-behind mode. Keeps track of every
+ * dirty config so pending changes can be written on shutdown. Also folds the
+ * journals of configs in journal mode back into their files.
+ */
+public class ConfigFlusher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigFlusher.class);
+
+    private final ScheduledExecutorService executor;
+    private final Set<ConfigImpl> dirty;
+    private final Set<ConfigImpl> journals;
+
+    public ConfigFlusher() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rub-config-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dirty = ConcurrentHashMap.newKeySet();
+        this.journals = ConcurrentHashMap.newKeySet();
+    }
+
+    ScheduledFuture<?> schedule(@NotNull ConfigImpl config, @NotNull Duration delay) {
+        ScheduledFuture<?> future = executor.schedule(() -> flush(config), delay.toNanos(), TimeUnit.NANOSECONDS);
+        dirty.add(config);
+        return future;
+    }
+
+    void flushSoon(@NotNull ConfigImpl config) {
+        executor.execute(() -> flush(config));
+    }
+
+    void compactSoon(@NotNull ConfigImpl config) {
+        executor.execute(() -> {
+            try {
+                config.compactJournal();
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to compact journal of config {}", config.getPath(), e);
+            }
+        });
+    }
+
+    void untrack(@NotNull ConfigImpl config) {
+        dirty.remove(config);
+    }
+
+    void trackJournal(@NotNull ConfigImpl config) {
+        journals.add(config);
+    }
+
+    void untrackJournal(@NotNull ConfigImpl config) {
+        journals.remove(config);
+    }
+
+    public void flushAll() {
+        for (ConfigImpl config : new ArrayList<>(dirty)) {
+            flush(config);
+        }
+    }
+
+    /**
+     * Stops the flusher, writes all pending changes and folds every open journal back
+     * into its config file before closing it.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        flushAll();
+        for (ConfigImpl config : new ArrayList<>(journals)) {
+            try {
+                config.compactJournal();
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to compact journal of config {}", config.getPath(), e);
+            }
+            config.closeJournal();
+        }
+    }
+
+    private void flush(@NotNull ConfigImpl config) {
+        try {
+            config.flush();
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to flush config {}", config.getPath(), e);
+        }
+    }
+}
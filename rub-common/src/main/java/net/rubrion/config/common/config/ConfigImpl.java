@@ -11,122 +11,1054 @@
 package net.rubrion.config.common.config;
 
 import net.rubrion.config.api.adapter.ConfigAdapter;
+import net.rubrion.config.api.adapter.TypeAdapter;
 import net.rubrion.config.api.adapter.TypeAdapterRegistry;
 import net.rubrion.config.api.config.Config;
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.api.config.ConfigPath;
+import net.rubrion.config.api.config.ConfigSection;
 import net.rubrion.config.api.exception.ConfigReadException;
 import net.rubrion.config.api.exception.ConfigSaveException;
 import net.rubrion.config.api.field.*;
+import net.rubrion.config.common.adapter.config.FragmentedConfigAdapter;
+import net.rubrion.config.common.adapter.config.PatchableConfigAdapter;
+import net.rubrion.config.common.adapter.type.Numbers;
 import net.rubrion.config.common.field.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 public class ConfigImpl implements Config {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigImpl.class);
+    private static final int MAX_TRACKED_KEYS = 256;
+    private static final long ANY_VERSION = -1;
+    private static final VarHandle DATA;
+
+    static {
+        try {
+            DATA = MethodHandles.lookup().findVarHandle(ConfigImpl.class, "data", Map.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     private final Path path;
     private final ConfigAdapter adapter;
     private final TypeAdapterRegistry typeRegistry;
-    private Map<String, Object> data;
+    private final ConfigOptions options;
+    private final ConfigFlusher flusher;
+    private final ConfigIoScheduler ioScheduler;
+    private final ConfigJournal journal;
+    private final KeyPool keyPool;
+    private volatile Map<String, Object> data;
+    private volatile Map<ConfigPath, Object> pathIndex;
+    private final PathVersions versions = new PathVersions();
+    private final AtomicInteger publishing = new AtomicInteger();
+    private final Queue<ConfigPath> published = new ConcurrentLinkedQueue<>();
+    private volatile int exclusive;
     private String rawContent;
+    private long writeSequence;
+    private final AtomicReference<Persisted> persisted = new AtomicReference<>(new Persisted(0, ""));
+    private final Object fileLock = new Object();
+    private PendingWrite lastWrite;
+    private final AtomicLong reloadSequence = new AtomicLong();
+    private long appliedReload;
+    private ConfigFiles.Checksum persistedChecksum;
+    private final Map<Object, String> fragments = new HashMap<>();
+
+    private final Set<String> changedKeys = new LinkedHashSet<>();
+    private boolean changesTracked = true;
+    private PatchableConfigAdapter.Index index;
+    private PatchableConfigAdapter.Index pendingIndex;
+
+    private boolean dirty;
+    private int pendingChanges;
+    private ScheduledFuture<?> pendingFlush;
+
+    private int batchDepth;
+    private boolean batchChanged;
+
+    private boolean compactionScheduled;
+
+    private final Map<String, List<WeakReference<PrimitiveFieldImpl<?>>>> primitiveFields = new HashMap<>();
+    private final Map<String, Map<ConfigPath, Map<Class<?>, Conversion>>> conversions = new ConcurrentHashMap<>();
 
     public ConfigImpl(Path path, ConfigAdapter adapter, TypeAdapterRegistry typeRegistry) {
+        this(path, adapter, typeRegistry, ConfigOptions.defaults(), null, null);
+    }
+
+    public ConfigImpl(Path path, ConfigAdapter adapter, TypeAdapterRegistry typeRegistry,
+                      @NotNull ConfigOptions options, @Nullable ConfigFlusher flusher,
+                      @Nullable ConfigIoScheduler ioScheduler) {
+        this(path, adapter, typeRegistry, options, flusher, ioScheduler, new KeyPool());
+    }
+
+    public ConfigImpl(Path path, ConfigAdapter adapter, TypeAdapterRegistry typeRegistry,
+                      @NotNull ConfigOptions options, @Nullable ConfigFlusher flusher,
+                      @Nullable ConfigIoScheduler ioScheduler, @NotNull KeyPool keyPool) {
+        if (options.isWriteBehind() && flusher == null) {
+            throw new IllegalArgumentException("Write-behind persistence requires a flusher");
+        }
+        if (options.isAsyncWrites() && ioScheduler == null) {
+            throw new IllegalArgumentException("Async writes require an I/O scheduler");
+        }
+        if (options.isJournal() && flusher == null) {
+            throw new IllegalArgumentException("Journal mode requires a flusher for compaction");
+        }
         this.path = path;
         this.adapter = adapter;
         this.typeRegistry = typeRegistry;
+        this.options = options;
+        this.flusher = flusher;
+        this.ioScheduler = ioScheduler;
+        this.journal = options.isJournal() ? new ConfigJournal(path) : null;
+        this.keyPool = keyPool;
         this.load();
     }
 
     private void load() {
         try {
-            if (!Files.exists(path)) {
-                this.rawContent = "";
-                this.data = new HashMap<>();
-                save();
-                return;
-            }
-
-            this.rawContent = Files.readString(path);
-            this.data = adapter.read(rawContent);
+            apply(readFile());
         } catch (IOException e) {
-            this.data = new HashMap<>();
-            this.rawContent = "";
             throw new ConfigReadException("Failed to load config from " + path, e);
         }
     }
 
+    /**
+     * Reads and parses the config file without touching the live state, so it can run
+     * on a background thread. Returns a file without a tree if the file does not exist.
+     */
+    private @NotNull LoadedFile readFile() throws IOException {
+        if (!Files.exists(path)) {
+            return new LoadedFile(null, "", null);
+        }
+
+        if (options.isStreamingWrites()) {
+            byte[] bytes = Files.readAllBytes(path);
+            Map<String, Object> tree = adapter.read(new String(bytes, StandardCharsets.UTF_8));
+            return new LoadedFile(ConfigNodes.compactRoot(tree, keyPool), "", ConfigFiles.checksum(bytes));
+        }
+
+        String content = Files.readString(path);
+        return new LoadedFile(ConfigNodes.compactRoot(adapter.read(content), keyPool), content, null);
+    }
+
+    /**
+     * Publishes a read file as the live state of this config. The new tree, with the journal
+     * replayed onto it, and its path index are built off to the side first, so a failed
+     * replay leaves the current state untouched. Readers go through either the path index
+     * or the tree, so each of them switches over with a single volatile write.
+     */
+    private void apply(@NotNull LoadedFile file) throws IOException {
+        Map<String, Object> previous = this.data;
+        List<ConfigPath> changed = file.tree() != null && previous != null && journal == null
+                ? new ArrayList<>() : null;
+        Map<String, Object> tree = file.tree() == null ? new HashMap<>()
+                : changed != null ? ConfigNodes.reuseRoot(previous, file.tree(), changed) : file.tree();
+        List<String> replayed = replayJournal(tree);
+        tree = prepare(tree);
+        Map<ConfigPath, Object> treeIndex = buildPathIndex(tree);
+
+        clearDirty();
+        fragments.clear();
+        changedKeys.clear();
+        changesTracked = true;
+        index = null;
+        this.rawContent = file.rawContent();
+        markWritten(++writeSequence, file.rawContent());
+        if (file.tree() == null || options.isStreamingWrites()) {
+            this.persistedChecksum = file.checksum();
+        }
+        this.data = tree;
+        this.pathIndex = treeIndex;
+        replayed.forEach(this::trackChange);
+        if (file.tree() == null || !isTracked(changed)) {
+            versions.reset();
+            applyLoaded(null);
+        } else if (!changed.isEmpty()) {
+            changed.forEach(versions::bump);
+            applyLoaded(changed);
+        }
+
+        if (file.tree() == null) {
+            save();
+        }
+    }
+
+    /**
+     * Freezes a freshly loaded tree before it is published in concurrent mode.
+     */
+    private @NotNull Map<String, Object> prepare(@NotNull Map<String, Object> tree) {
+        return options.isConcurrent() ? ConfigNodes.freezeRoot(tree) : tree;
+    }
+
+    /**
+     * Checks whether the changed paths of a reload are known one by one. A reload that
+     * replaced the root, or changed too many paths, is handled like a fresh load.
+     */
+    private static boolean isTracked(@Nullable List<ConfigPath> changed) {
+        return changed != null && changed.size() <= MAX_TRACKED_KEYS && !changed.contains(null);
+    }
+
+    /**
+     * Invalidates the cached conversions and refreshes the bound fields after a load,
+     * either only for the changed paths of a reload or for everything if they are unknown.
+     */
+    private void applyLoaded(@Nullable List<ConfigPath> changed) {
+        if (!isTracked(changed)) {
+            conversions.clear();
+            refreshFields(null);
+            return;
+        }
+
+        for (ConfigPath path : changed) {
+            invalidateConversions(path);
+            refreshFields(path);
+        }
+    }
+
     @Override
-    public <T> Optional<T> get(String key, Class<T> type) {
-        Object value = getValueByKey(key);
+    public <T> Optional<T> get(ConfigPath path, Class<T> type) {
+        Object value = getValueByKey(checkPath(path));
         if (value == null) {
             return Optional.empty();
         }
 
-        try {
-            T converted = typeRegistry.convert(value, type);
-            return Optional.ofNullable(converted);
-        } catch (Exception e) {
-            return Optional.empty();
+        return Optional.ofNullable(convert(path, value, type));
+    }
+
+    @Override
+    public <T> T getOr(ConfigPath path, Class<T> type, T defaultValue) {
+        return get(path, type).orElse(defaultValue);
+    }
+
+    @Override
+    public int getInt(ConfigPath path, int defaultValue) {
+        Object value = getValueByKey(checkPath(path));
+        if (value instanceof Number number) {
+            return Numbers.fitsInt(number) ? number.intValue() : defaultValue;
         }
+        Integer converted = convert(path, value, Integer.class);
+        return converted != null ? converted : defaultValue;
     }
 
     @Override
-    public <T> T getOr(String key, Class<T> type, T defaultValue) {
-        return get(key, type).orElse(defaultValue);
+    public long getLong(ConfigPath path, long defaultValue) {
+        Object value = getValueByKey(checkPath(path));
+        if (value instanceof Number number) {
+            return Numbers.fitsLong(number) ? number.longValue() : defaultValue;
+        }
+        Long converted = convert(path, value, Long.class);
+        return converted != null ? converted : defaultValue;
     }
 
     @Override
-    public <T> Field<T> getField(String key, Class<T> type) {
-        return new FieldImpl<>(this, key, type);
+    public double getDouble(ConfigPath path, double defaultValue) {
+        Object value = getValueByKey(checkPath(path));
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        Double converted = convert(path, value, Double.class);
+        return converted != null ? converted : defaultValue;
     }
 
     @Override
-    public <T> FieldList<T> getFieldList(String key, Class<T> elementType) {
-        return new FieldListImpl<>(this, key, elementType);
+    public boolean getBoolean(ConfigPath path, boolean defaultValue) {
+        Object value = getValueByKey(checkPath(path));
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        Boolean converted = convert(path, value, Boolean.class);
+        return converted != null ? converted : defaultValue;
+    }
+
+    /**
+     * Gets the value stored at the path as it is, without converting it.
+     */
+    public @Nullable Object getRaw(@NotNull ConfigPath path) {
+        return getValueByKey(checkPath(path));
+    }
+
+    /**
+     * Converts without throwing. Results are cached per path and target type as long as
+     * the stored value stays the same instance and the registry resolves the same adapter,
+     * so each value is converted only once and adapters registered later take effect.
+     * The cache is grouped by top-level section, which is dropped as a whole when a value
+     * in it is set. Failed conversions are cached as well and logged once.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> @Nullable T convert(@NotNull ConfigPath path, Object value, Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        if (type.isInstance(value)) {
+            return (T) value;
+        }
+
+        Map<ConfigPath, Map<Class<?>, Conversion>> section = conversions.get(path.getSegment(0));
+        Map<Class<?>, Conversion> cached = section == null ? null : section.get(path);
+        Conversion conversion = cached == null ? null : cached.get(type);
+        TypeAdapter<T> adapter = typeRegistry.getAdapter(type);
+        if (conversion != null && conversion.source() == value && conversion.adapter() == adapter) {
+            return conversion.result() == TypeAdapter.FAILED ? null : (T) conversion.result();
+        }
+
+        Object converted = typeRegistry.tryConvert(value, type);
+        if (converted == TypeAdapter.FAILED && (conversion == null || conversion.result() != TypeAdapter.FAILED
+                || conversion.adapter() != adapter || !Objects.equals(conversion.source(), value))) {
+            LOGGER.warn("Value of '{}' in {} cannot be converted to {}", path, this.path, type.getSimpleName());
+        }
+
+        conversions.computeIfAbsent(path.getSegment(0), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(path, k -> new ConcurrentHashMap<>())
+                .put(type, new Conversion(value, adapter, converted));
+        return converted == TypeAdapter.FAILED ? null : (T) converted;
+    }
+
+    /**
+     * Converts a value read from a snapshot. Values of shared snapshots are the instances
+     * of the live tree and go through the conversion cache; copied values do not, as they
+     * would only displace the entries of the live tree.
+     */
+    <T> @Nullable T convert(@NotNull ConfigPath path, Object value, Class<T> type, boolean cached) {
+        if (cached) {
+            return convert(path, value, type);
+        }
+        Object converted = value == null ? null : typeRegistry.tryConvert(value, type);
+        //noinspection unchecked
+        return converted == TypeAdapter.FAILED ? null : (T) converted;
+    }
+
+    /**
+     * Drops the cached conversions of the top-level section holding the given path, which
+     * covers the path, its parent sections and its children.
+     */
+    private void invalidateConversions(@NotNull ConfigPath changed) {
+        conversions.remove(changed.getSegment(0));
+    }
+
+    @Override
+    public <T> Field<T> getField(ConfigPath path, Class<T> type) {
+        return new FieldImpl<>(this, checkPath(path), type);
     }
 
     @Override
-    public FieldSection getFieldSection(String key) {
-        return new FieldSectionImpl(this, key);
+    public <T> FieldList<T> getFieldList(ConfigPath path, Class<T> elementType) {
+        return new FieldListImpl<>(this, checkPath(path), elementType);
     }
 
     @Override
-    public void set(String key, Object value) {
-        setValueByKey(key, value);
-        save();
+    public FieldSection getFieldSection(ConfigPath path) {
+        return new FieldSectionImpl(this, checkPath(path));
     }
 
     @Override
-    public void reload() {
-        load();
+    public IntField getIntField(ConfigPath path, int defaultValue) {
+        return bind(new IntFieldImpl(this, checkPath(path), defaultValue));
+    }
+
+    @Override
+    public LongField getLongField(ConfigPath path, long defaultValue) {
+        return bind(new LongFieldImpl(this, checkPath(path), defaultValue));
+    }
+
+    @Override
+    public DoubleField getDoubleField(ConfigPath path, double defaultValue) {
+        return bind(new DoubleFieldImpl(this, checkPath(path), defaultValue));
+    }
+
+    @Override
+    public BooleanField getBooleanField(ConfigPath path, boolean defaultValue) {
+        return bind(new BooleanFieldImpl(this, checkPath(path), defaultValue));
+    }
+
+    @Override
+    public void set(ConfigPath path, Object value) {
+        checkPath(path);
+        PendingWrite write;
+        if (options.isConcurrent()) {
+            publish(path, ANY_VERSION, ConfigNodes.freeze(ConfigNodes.compact(value, keyPool)));
+            synchronized (this) {
+                write = recordPublished();
+            }
+        } else {
+            synchronized (this) {
+                write = update(path, value);
+            }
+        }
+        commit(write);
+    }
+
+    /**
+     * Gets the version of a path. The version changes whenever the value at the path, at
+     * one of its descendants or at one of its ancestors is set, and on every reload that
+     * changes one of them, but not when a sibling changes. Versions are only meant to be
+     * compared with each other.
+     */
+    public long getVersion(@NotNull ConfigPath path) {
+        return versions.get(checkPath(path));
+    }
+
+    /**
+     * Sets the value at the path if its version still equals the given one. In concurrent
+     * mode the new tree is published by a compare-and-set on the root without the lock,
+     * otherwise the lock is only held to verify the version and set the value. Either way
+     * the file is written after the lock is released.
+     */
+    public boolean setIfVersion(@NotNull ConfigPath path, long version, Object value) {
+        if (getVersion(path) != version) {
+            return false;
+        }
+
+        PendingWrite write;
+        if (options.isConcurrent()) {
+            if (!publish(path, version, ConfigNodes.freeze(ConfigNodes.compact(value, keyPool)))) {
+                return false;
+            }
+            synchronized (this) {
+                write = recordPublished();
+            }
+        } else {
+            synchronized (this) {
+                if (getVersion(path) != version) {
+                    return false;
+                }
+                write = update(path, value);
+            }
+        }
+        commit(write);
+        return true;
+    }
+
+    /**
+     * Sets the value at the path if the current value returned by the reader equals the
+     * expected one. The value is read and compared without holding the lock; the set only
+     * happens if the version did not change in the meantime, retrying otherwise.
+     */
+    public <T> boolean compareAndSet(@NotNull ConfigPath path, @NotNull Supplier<T> reader,
+                                     @Nullable T expected, Object newValue) {
+        for (int attempt = 0; ; attempt++) {
+            long version = getVersion(path);
+            if (!Objects.equals(reader.get(), expected)) {
+                return false;
+            }
+            if (setIfVersion(path, version, newValue)) {
+                return true;
+            }
+            backOff(attempt);
+        }
+    }
+
+    /**
+     * Optimistically updates the value at the path: reads the version and the current
+     * value, applies the update without holding the lock and sets the result only if
+     * the version did not change in the meantime, retrying otherwise.
+     *
+     * @param reader reads the current value
+     * @param update computes the new value
+     * @param stored maps the new value to the value that is stored in the config
+     */
+    public <T> T updateAndGet(@NotNull ConfigPath path, @NotNull Supplier<T> reader,
+                              @NotNull UnaryOperator<T> update, @NotNull Function<? super T, ?> stored) {
+        for (int attempt = 0; ; attempt++) {
+            long version = getVersion(path);
+            T next = update.apply(reader.get());
+            if (setIfVersion(path, version, stored.apply(next))) {
+                return next;
+            }
+            backOff(attempt);
+        }
+    }
+
+    /**
+     * Waits before retrying an update that lost a race: spins for the first attempts, then
+     * yields and finally parks for a time that doubles with every attempt up to a millisecond.
+     */
+    private static void backOff(int attempt) {
+        if (attempt < 4) {
+            Thread.onSpinWait();
+        } else if (attempt < 8) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(1_000L << Math.min(attempt - 8, 10));
+        }
+    }
+
+    /**
+     * Publishes a tree with the frozen value at the path by a compare-and-set on the root,
+     * as long as the version of the path still equals the given one. The version is bumped
+     * before the tree is published, so a concurrent update of the same path sees the
+     * conflict, and again afterwards, so readers that saw the old tree read again. Runs
+     * without the lock unless an operation that replaces the whole tree closed the gate.
+     */
+    private boolean publish(@NotNull ConfigPath path, long version, Object value) {
+        publishing.incrementAndGet();
+        try {
+            if (exclusive == 0 || Thread.holdsLock(this)) {
+                long expected = version;
+                for (int attempt = 0; ; attempt++) {
+                    Map<String, Object> root = data;
+                    if (expected != ANY_VERSION && versions.get(path) != expected) {
+                        return false;
+                    }
+                    if (attempt == 0) {
+                        versions.bump(path);
+                        expected = version == ANY_VERSION ? ANY_VERSION : version + 1;
+                    }
+                    if (DATA.compareAndSet(this, root, ConfigNodes.copyOnWrite(root, path, value))) {
+                        versions.bump(path);
+                        published.add(path);
+                        return true;
+                    }
+                    backOff(attempt);
+                }
+            }
+        } finally {
+            publishing.decrementAndGet();
+        }
+
+        synchronized (this) {
+            return publish(path, version, value);
+        }
+    }
+
+    /**
+     * Records the changes published without the lock, no matter which thread published
+     * them, and persists them if there were any.
+     */
+    private @Nullable PendingWrite recordPublished() {
+        boolean changed = false;
+        ConfigPath path;
+        while ((path = published.poll()) != null) {
+            recordChange(path, getValueByKey(path));
+            changed = true;
+        }
+        return !changed || batchDepth > 0 || journal != null ? null : persist();
+    }
+
+    /**
+     * Stops lock-free publishes for an operation that replaces the whole tree, waits for
+     * the ones in flight and records them. Must be called with the lock held.
+     */
+    private void closeGate() {
+        exclusive++;
+        while (publishing.get() > 0) {
+            Thread.onSpinWait();
+        }
+        commit(recordPublished());
+    }
+
+    private void openGate() {
+        exclusive--;
+    }
+
+    private @Nullable PendingWrite update(@NotNull ConfigPath path, Object value) {
+        setValueByKey(path, value);
+        versions.bump(path);
+        recordChange(path, value);
+        return batchDepth > 0 || journal != null ? null : persist();
+    }
+
+    private void recordChange(@NotNull ConfigPath path, Object value) {
+        fragments.remove(path.getSegment(0));
+        trackChange(path.toString());
+        invalidateConversions(path);
+        refreshFields(path);
+        if (batchDepth > 0) {
+            batchChanged = true;
+        } else if (journal != null) {
+            appendToJournal(path.toString(), value);
+        }
+    }
+
+    @Override
+    public void edit(Consumer<Config> editor) {
+        if (editor == null) {
+            throw new IllegalArgumentException("Editor cannot be null");
+        }
+
+        PendingWrite write = null;
+        synchronized (this) {
+            if (batchDepth > 0) {
+                editor.accept(this);
+                return;
+            }
+
+            closeGate();
+            Map<String, Object> backup = options.isConcurrent() ? data : deepCopy(data);
+            batchDepth++;
+            try {
+                editor.accept(this);
+                batchDepth--;
+                if (batchChanged) {
+                    write = persist();
+                }
+            } catch (RuntimeException | Error e) {
+                Map<ConfigPath, Object> backupIndex = buildPathIndex(backup);
+                this.data = backup;
+                this.pathIndex = backupIndex;
+                conversions.clear();
+                refreshFields(null);
+                versions.reset();
+                fragments.clear();
+                changesTracked = false;
+                throw e;
+            } finally {
+                batchDepth = 0;
+                batchChanged = false;
+                openGate();
+            }
+        }
+        commit(write);
+    }
+
+    @Override
+    public ConfigSection snapshot() {
+        if (options.isConcurrent()) {
+            return new ConfigSnapshot(this, data, true);
+        }
+        synchronized (this) {
+            return new ConfigSnapshot(this, deepCopy(data), false);
+        }
+    }
+
+    @Override
+    public synchronized void reload() {
+        long sequence = reloadSequence.incrementAndGet();
+        closeGate();
+        try {
+            flush();
+            synchronized (fileLock) {
+                load();
+            }
+            appliedReload = sequence;
+        } finally {
+            openGate();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> reloadAsync() {
+        try {
+            flush();
+        } catch (ConfigSaveException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long sequence = reloadSequence.incrementAndGet();
+        Supplier<LoadedFile> reader = () -> {
+            try {
+                return readFile();
+            } catch (IOException e) {
+                throw new ConfigReadException("Failed to load config from " + path, e);
+            }
+        };
+
+        CompletableFuture<LoadedFile> read = ioScheduler != null
+                ? ioScheduler.read(path, reader)
+                : CompletableFuture.supplyAsync(reader, ReloadExecutor.INSTANCE);
+        return read.thenAccept(file -> {
+            synchronized (this) {
+                if (sequence < appliedReload) {
+                    return;
+                }
+                closeGate();
+                try {
+                    apply(file);
+                    appliedReload = sequence;
+                } catch (IOException e) {
+                    throw new ConfigReadException("Failed to load config from " + path, e);
+                } finally {
+                    openGate();
+                }
+            }
+        });
     }
 
     @Override
     public void save() {
+        PendingWrite write;
+        synchronized (this) {
+            write = prepareWrite(false);
+        }
+        commit(write);
+    }
+
+    @Override
+    public void flush() {
+        PendingWrite write;
+        synchronized (this) {
+            write = dirty ? prepareWrite(true) : lastWrite;
+        }
+        commit(write);
+    }
+
+    @Override
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Serializes and writes the config. Incremental writes patch the keys changed
+     * through this config into the current text if the adapter supports it. An
+     * explicit {@link #save()}, or a write after the changed keys were no longer
+     * tracked, compares the whole tree with the current text and patches every
+     * value that differs, which also picks up changes made directly to maps handed
+     * out by {@link #get(String, Class)}. Changes the patch cannot express reuse the
+     * cached fragments of unchanged top-level entries, which a full save re-renders.
+     * Streaming configs always serialize the whole document straight into the file.
+     */
+    private void write(boolean incremental) {
+        commit(prepareWrite(incremental));
+    }
+
+    /**
+     * Renders the config for a {@link #write(boolean)} while the lock is held. Plain writes
+     * are returned to be committed once the lock is released, while queued writes are
+     * handed to the I/O scheduler. Streaming and journal writes still run under the lock,
+     * as they stream the live tree or have to clear the journal once the file is written.
+     */
+    private @Nullable PendingWrite prepareWrite(boolean incremental) {
         try {
-            Files.createDirectories(path.getParent());
-            String updated = adapter.write(rawContent, data);
-            Files.writeString(path, updated);
+            if (options.isStreamingWrites()) {
+                persistedChecksum = ConfigFiles.stream(path, options,
+                        out -> adapter.write(rawContent, data, out), persistedChecksum);
+                markPersisted();
+                return null;
+            }
+
+            String updated = render(incremental);
+            if (isPersisted(updated)) {
+                markPersisted();
+                return null;
+            }
+
+            long sequence = ++writeSequence;
+            if (options.isAsyncWrites() && journal == null) {
+                ioScheduler.submit(path, updated, options).thenRun(() -> markWritten(sequence, updated));
+                this.rawContent = updated;
+                markRendered();
+                return null;
+            }
+
+            if (journal != null) {
+                ConfigFiles.write(path, updated, options);
+                markWritten(sequence, updated);
+                this.rawContent = updated;
+                markPersisted();
+                return null;
+            }
+
             this.rawContent = updated;
+            markRendered();
+            lastWrite = new PendingWrite(sequence, updated);
+            return lastWrite;
         } catch (IOException e) {
             throw new ConfigSaveException("Failed to save config to " + path, e);
         }
     }
 
-    @Override
-    public Path getPath() {
+    /**
+     * Writes rendered content to the file without holding the lock. Writes run one at a
+     * time and are skipped once the same or a newer write reached the disk, so a write that
+     * failed is retried by the next {@link #flush()}.
+     */
+    private void commit(@Nullable PendingWrite write) {
+        if (write == null) {
+            return;
+        }
+        synchronized (fileLock) {
+            if (persisted.get().sequence() >= write.sequence()) {
+                return;
+            }
+            try {
+                ConfigFiles.write(path, write.content(), options);
+            } catch (IOException e) {
+                throw new ConfigSaveException("Failed to save config to " + path, e);
+            }
+            markWritten(write.sequence(), write.content());
+        }
+    }
+
+    private void markPersisted() throws IOException {
+        markRendered();
+        clearJournal();
+    }
+
+    /**
+     * Makes the rendered content the base of the next incremental write. Committed and queued
+     * writes run this right away, while the content only counts as persisted once it is on disk.
+     */
+    private void markRendered() {
+        index = pendingIndex;
+        pendingIndex = null;
+        changedKeys.clear();
+        changesTracked = true;
+        clearDirty();
+    }
+
+    /**
+     * Records content that reached the disk. Completions of queued writes may arrive out of
+     * order and without the lock, so only a newer write replaces the recorded one.
+     */
+    private void markWritten(long sequence, @NotNull String content) {
+        Persisted written = new Persisted(sequence, content);
+        persisted.accumulateAndGet(written, (current, next) -> next.sequence() > current.sequence() ? next : current);
+    }
+
+    private String render(boolean incremental) throws IOException {
+        pendingIndex = null;
+        if (adapter instanceof PatchableConfigAdapter patchable) {
+            PatchableConfigAdapter.Index patched = null;
+            if (incremental && changesTracked) {
+                if (changedKeys.isEmpty() && !rawContent.isEmpty()) {
+                    pendingIndex = index;
+                    return rawContent;
+                }
+                patched = (index != null ? index : patchable.index(rawContent)).patch(data, changedKeys);
+            } else if (!rawContent.isEmpty()) {
+                patched = patchable.patch(index != null ? index : patchable.index(rawContent), data);
+            }
+
+            if (patched != null) {
+                pendingIndex = patched;
+                return patched.content();
+            }
+        }
+
+        if (!(adapter instanceof FragmentedConfigAdapter fragmented)) {
+            return adapter.write(rawContent, data);
+        }
+
+        if (!incremental) {
+            fragments.clear();
+        }
+
+        Map<Object, String> rendered = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) data).entrySet()) {
+            String fragment = fragments.get(entry.getKey());
+            if (fragment == null) {
+                fragment = fragmented.writeFragment(entry.getKey(), entry.getValue());
+                fragments.put(entry.getKey(), fragment);
+            }
+            rendered.put(entry.getKey(), fragment);
+        }
+        fragments.keySet().retainAll(rendered.keySet());
+
+        return fragmented.assemble(rawContent, data, rendered);
+    }
+
+    private boolean isPersisted(@NotNull String content) {
+        String persisted = this.persisted.get().content();
+        return persisted != null
+                && !persisted.isEmpty()
+                && content.length() == persisted.length()
+                && content.hashCode() == persisted.hashCode()
+                && content.equals(persisted);
+    }
+
+    synchronized void compactJournal() {
+        compactionScheduled = false;
+        if (journal != null && journal.size() > 0) {
+            write(true);
+        }
+    }
+
+    /**
+     * Replays the journal onto a tree that is not published yet and returns the replayed keys.
+     */
+    private @NotNull List<String> replayJournal(@NotNull Map<String, Object> tree) throws IOException {
+        List<String> keys = new ArrayList<>();
+        if (journal != null) {
+            journal.replay((key, value) -> {
+                insert(tree, ConfigPath.of(key), options.isConcurrent() ? ConfigNodes.compact(value, keyPool) : value);
+                keys.add(key);
+            });
+        }
+        return keys;
+    }
+
+    private void appendToJournal(@NotNull String key, Object value) {
+        boolean opened = journal.isOpen();
+        try {
+            journal.append(key, value, options.isFsync());
+        } catch (IOException e) {
+            throw new ConfigSaveException("Failed to append to journal " + journal.getPath(), e);
+        }
+        if (!opened) {
+            flusher.trackJournal(this);
+        }
+
+        if (journal.size() >= options.getJournalCompactionThreshold() && !compactionScheduled) {
+            try {
+                flusher.compactSoon(this);
+                compactionScheduled = true;
+            } catch (RejectedExecutionException e) {
+                write(true);
+            }
+        }
+    }
+
+    private void clearJournal() throws IOException {
+        if (journal != null) {
+            journal.clear();
+            flusher.untrackJournal(this);
+        }
+    }
+
+    /**
+     * Closes the journal file. Appending again reopens it.
+     */
+    synchronized void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close journal {}", journal.getPath(), e);
+        }
+        flusher.untrackJournal(this);
+    }
+
+    private @Nullable PendingWrite persist() {
+        if (journal == null && options.isWriteBehind()) {
+            markDirty();
+            return null;
+        }
+        return prepareWrite(true);
+    }
+
+    private void markDirty() {
+        pendingChanges++;
+        if (!dirty) {
+            try {
+                pendingFlush = flusher.schedule(this, options.getWriteBehindDelay());
+            } catch (RejectedExecutionException e) {
+                write(true);
+                return;
+            }
+            dirty = true;
+        }
+
+        if (pendingChanges == options.getWriteBehindMaxChanges()) {
+            try {
+                flusher.flushSoon(this);
+            } catch (RejectedExecutionException e) {
+                write(true);
+            }
+        }
+    }
+
+    private void clearDirty() {
+        pendingChanges = 0;
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        pendingFlush.cancel(false);
+        pendingFlush = null;
+        flusher.untrack(this);
+    }
+
+    private synchronized <F extends PrimitiveFieldImpl<?>> F bind(@NotNull F field) {
+        field.refresh();
+        primitiveFields.computeIfAbsent(field.path().getSegment(0), k -> new ArrayList<>())
+                .add(new WeakReference<>(field));
+        return field;
+    }
+
+    /**
+     * Refreshes the primitive fields bound to the given path, its parent sections or
+     * its children, or all fields if the path is null. Bindings of fields that were
+     * garbage collected are dropped on the way.
+     */
+    private void refreshFields(@Nullable ConfigPath changed) {
+        if (primitiveFields.isEmpty()) {
+            return;
+        }
+
+        if (changed != null) {
+            List<WeakReference<PrimitiveFieldImpl<?>>> group = primitiveFields.get(changed.getSegment(0));
+            if (group != null && refreshFields(group, changed)) {
+                primitiveFields.remove(changed.getSegment(0));
+            }
+            return;
+        }
+
+        primitiveFields.values().removeIf(group -> refreshFields(group, null));
+    }
+
+    private static boolean refreshFields(@NotNull List<WeakReference<PrimitiveFieldImpl<?>>> group,
+                                         @Nullable ConfigPath changed) {
+        group.removeIf(reference -> {
+            PrimitiveFieldImpl<?> field = reference.get();
+            if (field == null) {
+                return true;
+            }
+            if (changed == null || isRelated(changed, field.path())) {
+                field.refresh();
+            }
+            return false;
+        });
+        return group.isEmpty();
+    }
+
+    private static boolean isRelated(@NotNull ConfigPath first, @NotNull ConfigPath second) {
+        int shared = Math.min(first.size(), second.size());
+        for (int i = 0; i < shared; i++) {
+            if (!first.getSegment(i).equals(second.getSegment(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @NotNull ConfigPath checkPath(ConfigPath path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
         return path;
     }
 
-    private @Nullable Object getValueByKey(@NotNull String key) {
-        String[] parts = key.split("\\.");
-        Map<String, Object> current = data;
+    private @Nullable Object getValueByKey(@NotNull ConfigPath path) {
+        Map<ConfigPath, Object> pathIndex = this.pathIndex;
+        if (pathIndex != null) {
+            return pathIndex.get(path);
+        }
+        return lookup(data, path);
+    }
+
+    static @Nullable Object lookup(@NotNull Map<String, Object> root, @NotNull ConfigPath path) {
+        Map<String, Object> current = root;
 
-        for (int i = 0; i < parts.length - 1; i++) {
-            Object next = current.get(parts[i]);
+        for (int i = 0; i < path.size() - 1; i++) {
+            Object next = current.get(path.getSegment(i));
             if (!(next instanceof Map)) {
                 return null;
             }
@@ -134,18 +1066,39 @@ public class ConfigImpl implements Config {
             current = (Map<String, Object>) next;
         }
 
-        return current.get(parts[parts.length - 1]);
+        return current.get(path.getLast());
     }
 
-    private void setValueByKey(@NotNull String key, Object value) {
-        String[] parts = key.split("\\.");
+    private static void insert(@NotNull Map<String, Object> root, @NotNull ConfigPath path, Object value) {
+        Map<String, Object> current = root;
+
+        for (int i = 0; i < path.size() - 1; i++) {
+            Object next = current.get(path.getSegment(i));
+            if (!(next instanceof Map)) {
+                Map<String, Object> newMap = new CompactMap();
+                current.put(path.getSegment(i), newMap);
+                current = newMap;
+            } else {
+                //noinspection unchecked
+                current = (Map<String, Object>) next;
+            }
+        }
+
+        current.put(path.getLast(), value);
+    }
+
+    private void setValueByKey(@NotNull ConfigPath path, Object value) {
         Map<String, Object> current = data;
+        Map<ConfigPath, Object> pathIndex = this.pathIndex;
 
-        for (int i = 0; i < parts.length - 1; i++) {
-            Object next = current.get(parts[i]);
+        for (int i = 0; i < path.size() - 1; i++) {
+            Object next = current.get(path.getSegment(i));
             if (!(next instanceof Map)) {
-                Map<String, Object> newMap = new LinkedHashMap<>();
-                current.put(parts[i], newMap);
+                Map<String, Object> newMap = new CompactMap();
+                current.put(path.getSegment(i), newMap);
+                if (pathIndex != null) {
+                    pathIndex.put(ancestor(path, i), newMap);
+                }
                 current = newMap;
             } else {
                 //noinspection unchecked
@@ -153,7 +1106,121 @@ public class ConfigImpl implements Config {
             }
         }
 
-        current.put(parts[parts.length - 1], value);
+        Object previous = current.put(path.getLast(), value);
+        if (pathIndex != null) {
+            if (previous instanceof Map<?, ?> map) {
+                unindexPath(pathIndex, path, map);
+            }
+            indexPath(pathIndex, path, value);
+        }
+    }
+
+    private @Nullable Map<ConfigPath, Object> buildPathIndex(@NotNull Map<String, Object> tree) {
+        if (!options.isPathIndex() || options.isConcurrent()) {
+            return null;
+        }
+
+        Map<ConfigPath, Object> index = new HashMap<>();
+        for (Map.Entry<String, Object> entry : tree.entrySet()) {
+            if (isIndexable(entry.getKey())) {
+                indexPath(index, ConfigPath.of(entry.getKey()), entry.getValue());
+            }
+        }
+        return index;
+    }
+
+    private static void indexPath(@NotNull Map<ConfigPath, Object> index, @NotNull ConfigPath path, Object value) {
+        index.put(path, value);
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getKey() instanceof String key && isIndexable(key)) {
+                    indexPath(index, path.child(key), entry.getValue());
+                }
+            }
+        }
+    }
+
+    private static void unindexPath(@NotNull Map<ConfigPath, Object> index, @NotNull ConfigPath path,
+                                    @NotNull Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getKey() instanceof String key && isIndexable(key)) {
+                ConfigPath child = path.child(key);
+                index.remove(child);
+                if (entry.getValue() instanceof Map<?, ?> nested) {
+                    unindexPath(index, child, nested);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keys containing dots cannot be addressed by a path, as the walk over the
+     * nested data splits them into separate segments.
+     */
+    private static boolean isIndexable(@NotNull String key) {
+        return key.indexOf('.') < 0;
+    }
+
+    /**
+     * Gets the path made of the segments of the given path up to and including the index.
+     */
+    private static @NotNull ConfigPath ancestor(@NotNull ConfigPath path, int index) {
+        StringBuilder key = new StringBuilder(path.getSegment(0));
+        for (int i = 1; i <= index; i++) {
+            key.append('.').append(path.getSegment(i));
+        }
+        return ConfigPath.of(key.toString());
+    }
+
+    private void trackChange(@NotNull String key) {
+        if (!changesTracked) {
+            return;
+        }
+        changedKeys.add(key);
+        if (changedKeys.size() > MAX_TRACKED_KEYS) {
+            changedKeys.clear();
+            changesTracked = false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deepCopy(T value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(k, deepCopy(v)));
+            return (T) copy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(deepCopy(item)));
+            return (T) copy;
+        }
+        return value;
+    }
+
+    /**
+     * Runs the reads of {@link #reloadAsync()} for configs without an I/O scheduler, so the
+     * blocking reads stay off the common pool. Started on first use.
+     */
+    private static final class ReloadExecutor {
+        private static final ExecutorService INSTANCE = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rub-config-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record LoadedFile(@Nullable Map<String, Object> tree, String rawContent,
+                              ConfigFiles.@Nullable Checksum checksum) {
+    }
+
+    private record Persisted(long sequence, String content) {
+    }
+
+    private record PendingWrite(long sequence, String content) {
+    }
+
+    private record Conversion(Object source, TypeAdapter<?> adapter, Object result) {
     }
 
     Map<String, Object> getData() {
@@ -0,0 +1,229 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.api.config.IoStats;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared group-commit writer for configs in async write mode. Saves are queued
+ * per path, so repeated saves of the same file collapse into the latest content,
+ * and each worker thread writes all of its pending files in one batch.
+ * A path is always handled by the same worker, which keeps writes to it ordered.
+ */
+public class ConfigIoScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigIoScheduler.class);
+    private static final int DEFAULT_WORKERS = Math.min(2, Runtime.getRuntime().availableProcessors());
+
+    private final Worker[] workers;
+    private final LongAdder completedWrites = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private volatile long lastLatencyNanos;
+    private volatile boolean shutdown;
+
+    public ConfigIoScheduler() {
+        this(DEFAULT_WORKERS);
+    }
+
+    public ConfigIoScheduler(int workerCount) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        this.workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker("rub-config-io-" + i);
+        }
+    }
+
+    /**
+     * Queues the content to be written to the given file. After shutdown the write runs on
+     * the calling thread, but still after any write of the file a worker is busy with.
+     *
+     * @return a future completed once the content or a newer one reached the disk, or
+     *         completed exceptionally if that write failed
+     */
+    @NotNull CompletableFuture<Void> submit(@NotNull Path path, @NotNull String content,
+                                            @NotNull ConfigOptions options) {
+        PendingWrite write = new PendingWrite(content, options, System.nanoTime(), new CompletableFuture<>());
+        Worker worker = workerFor(path);
+        if (shutdown) {
+            worker.pending.merge(path, write, ConfigIoScheduler::supersede);
+            worker.drain();
+        } else {
+            worker.submit(path, write);
+        }
+        return write.done();
+    }
+
+    /**
+     * Runs a read of the given file on the worker that writes it, so the read sees every
+     * write of that file queued before it. Runs the read on the calling thread after shutdown.
+     */
+    <T> @NotNull CompletableFuture<T> read(@NotNull Path path, @NotNull Supplier<T> reader) {
+        if (!shutdown) {
+            try {
+                return CompletableFuture.supplyAsync(reader, workerFor(path).executor);
+            } catch (RejectedExecutionException e) {
+                // the worker is stopping, fall through to a direct read
+            }
+        }
+
+        try {
+            return CompletableFuture.completedFuture(reader.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Blocks until every write queued before this call has reached the disk.
+     */
+    public void flush() {
+        List<Future<?>> barriers = new ArrayList<>(workers.length);
+        for (Worker worker : workers) {
+            try {
+                barriers.add(worker.executor.submit(worker::drain));
+            } catch (RejectedExecutionException e) {
+                worker.drain();
+            }
+        }
+
+        for (Future<?> barrier : barriers) {
+            try {
+                barrier.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                LOGGER.error("Failed to flush queued config writes", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Stops accepting queued writes, writes everything still pending and stops the workers.
+     * Saves submitted afterwards are written on the calling thread.
+     */
+    public void shutdown() {
+        shutdown = true;
+        flush();
+        for (Worker worker : workers) {
+            worker.executor.shutdown();
+        }
+    }
+
+    public @NotNull IoStats stats() {
+        int depth = 0;
+        for (Worker worker : workers) {
+            depth += worker.pending.size();
+        }
+        long writes = completedWrites.sum();
+        Duration average = writes == 0 ? Duration.ZERO : Duration.ofNanos(totalLatencyNanos.sum() / writes);
+        return new IoStats(depth, writes, Duration.ofNanos(lastLatencyNanos),
+                Duration.ofNanos(maxLatencyNanos.get()), average);
+    }
+
+    private @NotNull Worker workerFor(@NotNull Path path) {
+        return workers[Math.floorMod(path.hashCode(), workers.length)];
+    }
+
+    private void write(@NotNull Path path, @NotNull PendingWrite write) {
+        try {
+            ConfigFiles.write(path, write.content(), write.options());
+            write.done().complete(null);
+        } catch (IOException e) {
+            LOGGER.error("Failed to write config to {}", path, e);
+            write.done().completeExceptionally(e);
+        }
+    }
+
+    private void record(long submittedAt) {
+        long latency = System.nanoTime() - submittedAt;
+        lastLatencyNanos = latency;
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        totalLatencyNanos.add(latency);
+        completedWrites.increment();
+    }
+
+    /**
+     * Replaces a queued write with a newer one, which also completes the queued write.
+     */
+    private static PendingWrite supersede(PendingWrite queued, PendingWrite latest) {
+        latest.done().whenComplete((ignored, error) -> {
+            if (error != null) {
+                queued.done().completeExceptionally(error);
+            } else {
+                queued.done().complete(null);
+            }
+        });
+        return new PendingWrite(latest.content(), latest.options(), queued.submittedAt(), latest.done());
+    }
+
+    private record PendingWrite(String content, ConfigOptions options, long submittedAt,
+                                CompletableFuture<Void> done) {
+    }
+
+    private final class Worker {
+        private final ExecutorService executor;
+        private final Map<Path, PendingWrite> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Worker(String name) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void submit(Path path, PendingWrite write) {
+            pending.merge(path, write, ConfigIoScheduler::supersede);
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    drain();
+                }
+            }
+        }
+
+        /**
+         * Writes everything pending. Drains never overlap, so a write taken from the queue
+         * later always lands after the ones taken before it.
+         */
+        private synchronized void drain() {
+            scheduled.set(false);
+            for (Path path : pending.keySet()) {
+                PendingWrite write = pending.remove(path);
+                if (write != null) {
+                    write(path, write);
+                    record(write.submittedAt());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import com.google.gson.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Append-only sidecar log of {@code set} calls for configs in journal mode.
+ * Every record is a single line of compact JSON holding the key and the new value,
+ * so appending costs the size of the change instead of the size of the document.
+ * Records of values holding numbers also carry the number types, which JSON does
+ * not keep, so a replayed value is of the same types as the value that was set.
+ * The journal stays open for appending until it is cleared or closed.
+ */
+final class ConfigJournal {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigJournal.class);
+    private static final Gson GSON = new GsonBuilder().serializeNulls().disableHtmlEscaping().create();
+    private static final String KEY = "k";
+    private static final String VALUE = "v";
+    private static final String TYPES = "t";
+
+    private final Path path;
+    private FileChannel channel;
+    private long size;
+
+    ConfigJournal(@NotNull Path configPath) {
+        this.path = configPath.resolveSibling(configPath.getFileName() + ".journal");
+    }
+
+    void replay(@NotNull BiConsumer<String, Object> consumer) throws IOException {
+        if (!Files.exists(path)) {
+            size = 0;
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                JsonObject record;
+                try {
+                    record = JsonParser.parseString(line).getAsJsonObject();
+                } catch (JsonParseException | IllegalStateException e) {
+                    LOGGER.warn("Skipping corrupt journal record in {}", path, e);
+                    continue;
+                }
+
+                JsonElement key = record.get(KEY);
+                if (key != null && key.isJsonPrimitive() && key.getAsJsonPrimitive().isString()) {
+                    consumer.accept(key.getAsString(), decode(record.get(VALUE), record.get(TYPES)));
+                }
+            }
+        }
+        size = Files.size(path);
+    }
+
+    void append(@NotNull String key, Object value, boolean fsync) throws IOException {
+        JsonObject record = new JsonObject();
+        record.addProperty(KEY, key);
+        record.add(VALUE, GSON.toJsonTree(value));
+        JsonElement types = types(value);
+        if (types != null) {
+            record.add(TYPES, types);
+        }
+        byte[] bytes = (GSON.toJson(record) + "\n").getBytes(StandardCharsets.UTF_8);
+
+        if (channel == null) {
+            channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        size += bytes.length;
+    }
+
+    void clear() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+        size = 0;
+    }
+
+    void close() throws IOException {
+        if (channel != null) {
+            FileChannel open = channel;
+            channel = null;
+            open.close();
+        }
+    }
+
+    boolean isOpen() {
+        return channel != null;
+    }
+
+    long size() {
+        return size;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Describes the number types within a value in the shape of the value, or returns
+     * null if it holds no numbers.
+     */
+    private static @Nullable JsonElement types(Object value) {
+        if (value instanceof Number number) {
+            return new JsonPrimitive(typeOf(number));
+        }
+        if (value instanceof Map<?, ?> map) {
+            JsonObject types = null;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                JsonElement type = types(entry.getValue());
+                if (type != null) {
+                    if (types == null) {
+                        types = new JsonObject();
+                    }
+                    types.add(String.valueOf(entry.getKey()), type);
+                }
+            }
+            return types;
+        }
+        if (value instanceof Collection<?> collection) {
+            JsonArray types = new JsonArray(collection.size());
+            boolean found = false;
+            for (Object element : collection) {
+                JsonElement type = types(element);
+                types.add(type == null ? JsonNull.INSTANCE : type);
+                found |= type != null;
+            }
+            return found ? types : null;
+        }
+        return null;
+    }
+
+    private static @NotNull String typeOf(@NotNull Number number) {
+        if (number instanceof Integer) {
+            return "i";
+        } else if (number instanceof Long) {
+            return "l";
+        } else if (number instanceof Float) {
+            return "f";
+        } else if (number instanceof Short) {
+            return "s";
+        } else if (number instanceof Byte) {
+            return "b";
+        } else if (number instanceof BigInteger) {
+            return "I";
+        } else if (number instanceof BigDecimal) {
+            return "D";
+        }
+        return "d";
+    }
+
+    private static @Nullable Object decode(@Nullable JsonElement element, @Nullable JsonElement types) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        } else if (element.isJsonPrimitive()) {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean();
+            } else if (primitive.isNumber()) {
+                return decodeNumber(primitive, types != null && types.isJsonPrimitive() ? types.getAsString() : null);
+            }
+            return primitive.getAsString();
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            JsonArray elementTypes = types != null && types.isJsonArray() ? types.getAsJsonArray() : null;
+            List<Object> list = new ArrayList<>(array.size());
+            for (int i = 0; i < array.size(); i++) {
+                JsonElement type = elementTypes != null && i < elementTypes.size() ? elementTypes.get(i) : null;
+                list.add(decode(array.get(i), type));
+            }
+            return list;
+        }
+
+        JsonObject object = element.getAsJsonObject();
+        JsonObject entryTypes = types != null && types.isJsonObject() ? types.getAsJsonObject() : null;
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            JsonElement type = entryTypes != null ? entryTypes.get(entry.getKey()) : null;
+            map.put(entry.getKey(), decode(entry.getValue(), type));
+        }
+        return map;
+    }
+
+    /**
+     * Numbers of records written without types are read like the JSON format reads them.
+     */
+    private static @NotNull Number decodeNumber(@NotNull JsonPrimitive primitive, @Nullable String type) {
+        if (type == null) {
+            Number number = primitive.getAsNumber();
+            return number.doubleValue() == number.longValue() ? (Number) number.longValue() : number.doubleValue();
+        }
+        return switch (type) {
+            case "i" -> primitive.getAsInt();
+            case "l" -> primitive.getAsLong();
+            case "f" -> primitive.getAsFloat();
+            case "s" -> primitive.getAsShort();
+            case "b" -> primitive.getAsByte();
+            case "I" -> primitive.getAsBigInteger();
+            case "D" -> primitive.getAsBigDecimal();
+            default -> primitive.getAsDouble();
+        };
+    }
+}
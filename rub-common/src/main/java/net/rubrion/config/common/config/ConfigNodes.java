@@ -0,0 +1,207 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigPath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Converts the trees produced by the config adapters into their compact in-memory
+ * form. Small sections become {@link CompactMap}s, lists are trimmed to their size,
+ * and keys and short string values are deduplicated through a {@link KeyPool}.
+ */
+final class ConfigNodes {
+    static final int MAX_COMPACT_SIZE = 32;
+    private static final Class<?> FROZEN_MAP = Collections.unmodifiableMap(new HashMap<>()).getClass();
+    private static final Class<?> FROZEN_LIST = Collections.unmodifiableList(new ArrayList<>()).getClass();
+
+    private ConfigNodes() {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    @SuppressWarnings("unchecked")
+    static @NotNull Map<String, Object> compactRoot(@NotNull Map<String, Object> data,
+                                                    @NotNull KeyPool pool) {
+        return (Map<String, Object>) compact(data, pool);
+    }
+
+    static Object compact(Object value, @NotNull KeyPool pool) {
+        if (value instanceof Map<?, ?> map) {
+            return compactMap(map, pool);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> compacted = new ArrayList<>(list.size());
+            for (Object element : list) {
+                compacted.add(compact(element, pool));
+            }
+            return compacted;
+        }
+        return pool.internValue(value);
+    }
+
+    private static @NotNull Map<?, ?> compactMap(@NotNull Map<?, ?> map, @NotNull KeyPool pool) {
+        boolean stringKeys = true;
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                stringKeys = false;
+                break;
+            }
+        }
+
+        if (!stringKeys || map.size() > MAX_COMPACT_SIZE) {
+            Map<Object, Object> compacted = new LinkedHashMap<>();
+            map.forEach((key, value) -> compacted.put(key instanceof String name ? pool.intern(name) : key,
+                    compact(value, pool)));
+            return compacted;
+        }
+
+        CompactMap compacted = new CompactMap(map.size());
+        map.forEach((key, value) -> compacted.put(pool.intern((String) key), compact(value, pool)));
+        return compacted;
+    }
+
+    /**
+     * Makes a tree immutable in place: compact maps are frozen, other maps and lists are
+     * wrapped into unmodifiable views. Subtrees that are already immutable are kept as
+     * they are, so freezing a tree after a copy-on-write only touches the copied path.
+     */
+    @SuppressWarnings("unchecked")
+    static Object freeze(Object value) {
+        if (value instanceof CompactMap map) {
+            if (!map.isFrozen()) {
+                map.entrySet().forEach(entry -> entry.setValue(freeze(entry.getValue())));
+                map.freeze();
+            }
+            return map;
+        }
+        if (value instanceof Map<?, ?> map) {
+            if (map.getClass() == FROZEN_MAP) {
+                return map;
+            }
+            ((Map<Object, Object>) map).entrySet().forEach(entry -> entry.setValue(freeze(entry.getValue())));
+            return Collections.unmodifiableMap(map);
+        }
+        if (value instanceof List<?> list) {
+            if (list.getClass() == FROZEN_LIST) {
+                return list;
+            }
+            ((List<Object>) list).replaceAll(ConfigNodes::freeze);
+            return Collections.unmodifiableList(list);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    static @NotNull Map<String, Object> freezeRoot(@NotNull Map<String, Object> root) {
+        return (Map<String, Object>) freeze(root);
+    }
+
+    /**
+     * Gets a frozen copy of a frozen tree in which the value at the given path is replaced.
+     * Only the sections on the path are copied; every other subtree is shared with the
+     * original tree. The value itself must already be frozen.
+     */
+    @SuppressWarnings("unchecked")
+    static @NotNull Map<String, Object> copyOnWrite(@NotNull Map<String, Object> root, @NotNull ConfigPath path,
+                                                    Object value) {
+        Map<String, Object> copy = (Map<String, Object>) copyOf(root);
+        Map<String, Object> current = copy;
+        for (int i = 0; i < path.size() - 1; i++) {
+            Object next = current.get(path.getSegment(i));
+            Map<String, Object> section = next instanceof Map<?, ?> map
+                    ? (Map<String, Object>) copyOf(map) : new CompactMap();
+            current.put(path.getSegment(i), section);
+            current = section;
+        }
+        current.put(path.getLast(), value);
+        return freezeRoot(copy);
+    }
+
+    private static @NotNull Map<?, ?> copyOf(@NotNull Map<?, ?> map) {
+        boolean stringKeys = map.keySet().stream().allMatch(key -> key instanceof String);
+        if (!stringKeys || map.size() >= MAX_COMPACT_SIZE) {
+            return new LinkedHashMap<>(map);
+        }
+        CompactMap copy = new CompactMap(map.size() + 1);
+        map.forEach((key, value) -> copy.put((String) key, value));
+        return copy;
+    }
+
+    /**
+     * Merges a freshly loaded tree into the previous one. Subtrees and values that are
+     * equal to their previous counterpart are replaced by the previous instance, so only
+     * changed nodes are new; a fully unchanged tree yields the previous root itself.
+     * The paths of changed values are added to {@code changed}, where a null element
+     * stands for a change that cannot be addressed by a path.
+     */
+    @SuppressWarnings("unchecked")
+    static @NotNull Map<String, Object> reuseRoot(@NotNull Map<String, Object> previous,
+                                                  @NotNull Map<String, Object> loaded,
+                                                  @NotNull List<ConfigPath> changed) {
+        return (Map<String, Object>) reuse(previous, loaded, null, changed);
+    }
+
+    private static Object reuse(Object previous, Object loaded, @Nullable ConfigPath path,
+                                @NotNull List<ConfigPath> changed) {
+        if (previous instanceof Map<?, ?> previousMap && loaded instanceof Map<?, ?> loadedMap) {
+            return reuseMap(previousMap, loadedMap, path, changed);
+        }
+        if (Objects.equals(previous, loaded)) {
+            return previous;
+        }
+        changed.add(path);
+        return loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Map<?, ?> reuseMap(@NotNull Map<?, ?> previous, @NotNull Map<?, ?> loaded,
+                                               @Nullable ConfigPath path, @NotNull List<ConfigPath> changed) {
+        boolean unchanged = previous.size() == loaded.size();
+        for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) loaded).entrySet()) {
+            Object key = entry.getKey();
+            Object before = previous.get(key);
+            ConfigPath child = childPath(path, key);
+            if (before == null && !previous.containsKey(key)) {
+                changed.add(child);
+                unchanged = false;
+                continue;
+            }
+
+            Object merged = reuse(before, entry.getValue(), child, changed);
+            if (merged == before) {
+                entry.setValue(before);
+            } else {
+                unchanged = false;
+            }
+        }
+
+        if (unchanged) {
+            return previous;
+        }
+        for (Object key : previous.keySet()) {
+            if (!loaded.containsKey(key)) {
+                changed.add(childPath(path, key));
+            }
+        }
+        return loaded;
+    }
+
+    private static @Nullable ConfigPath childPath(@Nullable ConfigPath parent, Object key) {
+        String name = String.valueOf(key);
+        if (name.isEmpty() || name.chars().allMatch(c -> c == '.')) {
+            return parent;
+        }
+        return parent == null ? ConfigPath.of(name) : parent.child(name);
+    }
+}
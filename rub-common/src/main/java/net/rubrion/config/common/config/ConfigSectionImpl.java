@@ -10,27 +10,83 @@
  */
 package net.rubrion.config.common.config;
 
+import net.rubrion.config.api.config.ConfigPath;
 import net.rubrion.config.api.config.ConfigSection;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 
 public record ConfigSectionImpl(ConfigImpl config,
-                                String prefix) implements ConfigSection {
+                                ConfigPath prefix) implements ConfigSection {
 
     @Override
     public <T> Optional<T> get(String key, Class<T> type) {
-        return config.get(prefix + "." + key, type);
+        return config.get(prefix.child(key), type);
+    }
+
+    @Override
+    public <T> Optional<T> get(ConfigPath path, Class<T> type) {
+        return config.get(prefix.child(path), type);
     }
 
     @Override
     public <T> T getOr(String key, Class<T> type, T defaultValue) {
-        return config.getOr(prefix + "." + key, type, defaultValue);
+        return config.getOr(prefix.child(key), type, defaultValue);
+    }
+
+    @Override
+    public <T> T getOr(ConfigPath path, Class<T> type, T defaultValue) {
+        return config.getOr(prefix.child(path), type, defaultValue);
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+        return config.getInt(prefix.child(key), defaultValue);
+    }
+
+    @Override
+    public int getInt(ConfigPath path, int defaultValue) {
+        return config.getInt(prefix.child(path), defaultValue);
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+        return config.getLong(prefix.child(key), defaultValue);
+    }
+
+    @Override
+    public long getLong(ConfigPath path, long defaultValue) {
+        return config.getLong(prefix.child(path), defaultValue);
+    }
+
+    @Override
+    public double getDouble(String key, double defaultValue) {
+        return config.getDouble(prefix.child(key), defaultValue);
+    }
+
+    @Override
+    public double getDouble(ConfigPath path, double defaultValue) {
+        return config.getDouble(prefix.child(path), defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return config.getBoolean(prefix.child(key), defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(ConfigPath path, boolean defaultValue) {
+        return config.getBoolean(prefix.child(path), defaultValue);
     }
 
     @Override
     public void set(String key, Object value) {
-        config.set(prefix + "." + key, value);
+        config.set(prefix.child(key), value);
+    }
+
+    @Override
+    public void set(ConfigPath path, Object value) {
+        config.set(prefix.child(path), value);
     }
 
     @Override
@@ -0,0 +1,105 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigPath;
+import net.rubrion.config.api.config.ConfigSection;
+import net.rubrion.config.common.adapter.type.Numbers;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only view of a config tree as it was when the snapshot was taken. Shared
+ * snapshots reference the immutable tree of a concurrent config; all others hold
+ * a private copy of the data.
+ */
+final class ConfigSnapshot implements ConfigSection {
+    private final ConfigImpl config;
+    private final Map<String, Object> root;
+    private final boolean shared;
+
+    ConfigSnapshot(@NotNull ConfigImpl config, @NotNull Map<String, Object> root, boolean shared) {
+        this.config = config;
+        this.root = root;
+        this.shared = shared;
+    }
+
+    @Override
+    public <T> Optional<T> get(ConfigPath path, Class<T> type) {
+        return Optional.ofNullable(config.convert(path, read(path), type, shared));
+    }
+
+    @Override
+    public <T> T getOr(ConfigPath path, Class<T> type, T defaultValue) {
+        return get(path, type).orElse(defaultValue);
+    }
+
+    @Override
+    public int getInt(ConfigPath path, int defaultValue) {
+        Object value = read(path);
+        if (value instanceof Number number) {
+            return Numbers.fitsInt(number) ? number.intValue() : defaultValue;
+        }
+        Integer converted = config.convert(path, value, Integer.class, shared);
+        return converted != null ? converted : defaultValue;
+    }
+
+    @Override
+    public long getLong(ConfigPath path, long defaultValue) {
+        Object value = read(path);
+        if (value instanceof Number number) {
+            return Numbers.fitsLong(number) ? number.longValue() : defaultValue;
+        }
+        Long converted = config.convert(path, value, Long.class, shared);
+        return converted != null ? converted : defaultValue;
+    }
+
+    @Override
+    public double getDouble(ConfigPath path, double defaultValue) {
+        Object value = read(path);
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        Double converted = config.convert(path, value, Double.class, shared);
+        return converted != null ? converted : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(ConfigPath path, boolean defaultValue) {
+        Object value = read(path);
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        Boolean converted = config.convert(path, value, Boolean.class, shared);
+        return converted != null ? converted : defaultValue;
+    }
+
+    @Override
+    public void set(ConfigPath path, Object value) {
+        throw new UnsupportedOperationException("Config snapshots cannot be modified");
+    }
+
+    @Override
+    public @NotNull List<String> getKeys() {
+        return new ArrayList<>(root.keySet());
+    }
+
+    private Object read(ConfigPath path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        return ConfigImpl.lookup(root, path);
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.KeyPoolStats;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deduplicates the keys and short string values of loaded configs. One pool is shared
+ * by all configs of a factory, so configs of the same schema reference the same key
+ * instances instead of each holding its own copy. The pool is bounded; once full,
+ * new strings are passed through unchanged.
+ */
+public final class KeyPool {
+    static final int MAX_POOLED = 1 << 16;
+    static final int MAX_VALUE_LENGTH = 32;
+
+    private final Map<String, String> pool = new ConcurrentHashMap<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    public @NotNull String intern(@NotNull String value) {
+        lookups.increment();
+        String pooled = pool.get(value);
+        if (pooled == null) {
+            if (pool.size() >= MAX_POOLED) {
+                return value;
+            }
+            pooled = pool.putIfAbsent(value, value);
+            if (pooled == null) {
+                return value;
+            }
+        }
+
+        if (pooled != value) {
+            hits.increment();
+            savedBytes.add(estimateSize(value));
+        }
+        return pooled;
+    }
+
+    /**
+     * Interns string values that are short enough to be likely repeated, such as
+     * enum-like settings, and returns every other value unchanged.
+     */
+    public Object internValue(Object value) {
+        if (value instanceof String string && string.length() <= MAX_VALUE_LENGTH) {
+            return intern(string);
+        }
+        return value;
+    }
+
+    public @NotNull KeyPoolStats stats() {
+        return new KeyPoolStats(pool.size(), lookups.sum(), hits.sum(), savedBytes.sum());
+    }
+
+    /**
+     * Estimates the retained size of a string with compact strings enabled: a 24 byte
+     * object plus a byte array with a 16 byte header, both aligned to 8 bytes.
+     */
+    private static long estimateSize(@NotNull String value) {
+        return 24 + ((16 + value.length() + 7) & ~7);
+    }
+}
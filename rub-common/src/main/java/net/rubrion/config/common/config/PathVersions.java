@@ -0,0 +1,78 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigPath;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the versions of config paths in a tree with one node per path segment. Each node
+ * counts the changes at or below its path and the values set at exactly its path. The
+ * version of a path is the sum of its own subtree counter and the set counters of its
+ * ancestors, so it moves when the path, one of its descendants or one of its ancestors
+ * changes, but not when a sibling does. Bumping and reading a path take one step per
+ * segment and never lock.
+ * <p>
+ * Counters only grow, so every bump moves the versions of the related paths to a value
+ * they never had before. A reset drops all nodes and starts over from a base above every
+ * version handed out so far. Resets must not run concurrently with bumps.
+ */
+final class PathVersions {
+    private final AtomicLong clock = new AtomicLong();
+    private volatile Epoch epoch = new Epoch(0, new Node());
+
+    long get(@NotNull ConfigPath path) {
+        Epoch current = epoch;
+        long version = current.base();
+        Node node = current.root();
+        for (int i = 0; i < path.size() - 1; i++) {
+            node = node.children.get(path.getSegment(i));
+            if (node == null) {
+                return version;
+            }
+            version += node.set.get();
+        }
+        node = node.children.get(path.getLast());
+        return node != null ? version + node.changed.get() : version;
+    }
+
+    void bump(@NotNull ConfigPath path) {
+        clock.addAndGet(path.size() + 1);
+        Node node = epoch.root();
+        for (int i = 0; i < path.size(); i++) {
+            node = node.child(path.getSegment(i));
+            node.changed.incrementAndGet();
+        }
+        node.set.incrementAndGet();
+    }
+
+    void reset() {
+        epoch = new Epoch(clock.incrementAndGet(), new Node());
+    }
+
+    private record Epoch(long base, @NotNull Node root) {
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+        private final AtomicLong changed = new AtomicLong();
+        private final AtomicLong set = new AtomicLong();
+
+        private @NotNull Node child(@NotNull String segment) {
+            Node child = children.get(segment);
+            return child != null ? child : children.computeIfAbsent(segment, k -> new Node());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.field;
+
+import net.rubrion.config.api.config.ConfigPath;
+import net.rubrion.config.api.field.BooleanField;
+import net.rubrion.config.common.config.ConfigImpl;
+
+public class BooleanFieldImpl extends PrimitiveFieldImpl<Boolean> implements BooleanField {
+    private final Slot absent;
+    private volatile Slot slot;
+
+    public BooleanFieldImpl(ConfigImpl config, ConfigPath path, boolean defaultValue) {
+        super(config, path);
+        this.absent = new Slot(defaultValue, false);
+        this.slot = absent;
+    }
+
+    @Override
+    public void refresh() {
+        slot = read();
+    }
+
+    @Override
+    protected Boolean resolve() {
+        Slot current = read();
+        return current.present() ? current.value() : null;
+    }
+
+    private Slot read() {
+        Object raw = config.getRaw(path);
+        if (raw instanceof Boolean bool) {
+            return new Slot(bool, true);
+        } else if (raw != null) {
+            Boolean converted = config.get(path, Boolean.class).orElse(null);
+            return converted != null ? new Slot(converted, true) : absent;
+        }
+        return absent;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return slot.value();
+    }
+
+    @Override
+    public void set(boolean value) {
+        config.set(path, value);
+    }
+
+    @Override
+    public boolean exists() {
+        return slot.present();
+    }
+
+    @Override
+    protected Boolean value() {
+        Slot current = slot;
+        return current.present() ? current.value() : null;
+    }
+
+    private record Slot(boolean value, boolean present) {
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.field;
+
+import net.rubrion.config.api.config.ConfigPath;
+import net.rubrion.config.api.field.DoubleField;
+import net.rubrion.config.common.config.ConfigImpl;
+
+public class DoubleFieldImpl extends PrimitiveFieldImpl<Double> implements DoubleField {
+    private final Slot absent;
+    private volatile Slot slot;
+
+    public DoubleFieldImpl(ConfigImpl config, ConfigPath path, double defaultValue) {
+        super(config, path);
+        this.absent = new Slot(defaultValue, false);
+        this.slot = absent;
+    }
+
+    @Override
+    public void refresh() {
+        slot = read();
+    }
+
+    @Override
+    protected Double resolve() {
+        Slot current = read();
+        return current.present() ? current.value() : null;
+    }
+
+    private Slot read() {
+        Object raw = config.getRaw(path);
+        if (raw instanceof Number number) {
+            return new Slot(number.doubleValue(), true);
+        } else if (raw != null && !(raw instanceof Number)) {
+            Double converted = config.get(path, Double.class).orElse(null);
+            return converted != null ? new Slot(converted, true) : absent;
+        }
+        return absent;
+    }
+
+    @Override
+    public double getAsDouble() {
+        return slot.value();
+    }
+
+    @Override
+    public void set(double value) {
+        config.set(path, value);
+    }
+
+    @Override
+    public boolean exists() {
+        return slot.present();
+    }
+
+    @Override
+    protected Double value() {
+        Slot current = slot;
+        return current.present() ? current.value() : null;
+    }
+
+    private record Slot(double value, boolean present) {
+    }
+}
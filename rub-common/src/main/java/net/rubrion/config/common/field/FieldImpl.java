@@ -10,30 +10,104 @@
  */
 package net.rubrion.config.common.field;
 
+import net.rubrion.config.api.config.ConfigPath;
 import net.rubrion.config.api.field.Field;
 import net.rubrion.config.common.config.ConfigImpl;
 
-public record FieldImpl<T>(ConfigImpl config, String key,
-                           Class<T> type) implements Field<T> {
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Field handle that caches the resolved value until the version of its path changes.
+ */
+public final class FieldImpl<T> implements Field<T> {
+    private final ConfigImpl config;
+    private final ConfigPath path;
+    private final Class<T> type;
+    private volatile Stamped<T> resolved;
+
+    public FieldImpl(ConfigImpl config, ConfigPath path, Class<T> type) {
+        this.config = config;
+        this.path = path;
+        this.type = type;
+    }
 
     @Override
     public T get() {
-        return config.get(key, type).orElse(null);
+        long stamp = config.getVersion(path);
+        Stamped<T> current = resolved;
+        if (current != null && current.stamp() == stamp) {
+            return current.value();
+        }
+
+        T value = config.get(path, type).orElse(null);
+        resolved = new Stamped<>(stamp, value);
+        return value;
     }
 
     @Override
     public void set(T value) {
-        config.set(key, value);
+        config.set(path, value);
     }
 
     @Override
     public T getOr(T defaultValue) {
-        return config.getOr(key, type, defaultValue);
+        T value = get();
+        return value != null ? value : defaultValue;
     }
 
     @Override
     public boolean exists() {
-        return config.get(key, type).isPresent();
+        return get() != null;
+    }
+
+    @Override
+    public boolean compareAndSet(T expected, T newValue) {
+        return config.compareAndSet(path, this::get, expected, newValue);
+    }
+
+    @Override
+    public T updateAndGet(UnaryOperator<T> update) {
+        return config.updateAndGet(path, this::get, update, value -> value);
+    }
+
+    @Override
+    public String key() {
+        return path.toString();
+    }
+
+    @Override
+    public ConfigPath path() {
+        return path;
+    }
+
+    public ConfigImpl config() {
+        return config;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof FieldImpl<?> other
+                && config.equals(other.config)
+                && path.equals(other.path)
+                && type.equals(other.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(config, path, type);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldImpl[config=" + config + ", path=" + path + ", type=" + type + "]";
     }
 
 }
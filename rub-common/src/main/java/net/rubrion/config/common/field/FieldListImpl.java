@@ -10,56 +10,137 @@
  */
 package net.rubrion.config.common.field;
 
+import net.rubrion.config.api.config.ConfigPath;
 import net.rubrion.config.api.field.FieldList;
 import net.rubrion.config.common.config.ConfigImpl;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
 
-public record FieldListImpl<T>(ConfigImpl config, String key,
-                               Class<T> elementType) implements FieldList<T> {
+/**
+ * List field handle that caches the resolved list until the version of its path changes.
+ */
+public final class FieldListImpl<T> implements FieldList<T> {
+    private final ConfigImpl config;
+    private final ConfigPath path;
+    private final Class<T> elementType;
+    private volatile Stamped<List<T>> resolved;
+
+    public FieldListImpl(ConfigImpl config, ConfigPath path, Class<T> elementType) {
+        this.config = config;
+        this.path = path;
+        this.elementType = elementType;
+    }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<T> get() {
-        return config.get(key, List.class).orElse(Collections.emptyList());
+        List<T> value = resolve();
+        return value != null ? value : Collections.emptyList();
     }
 
     @Override
     public void set(List<T> value) {
-        config.set(key, value);
+        config.set(path, value);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<T> getOr(List<T> defaultValue) {
-        return config.getOr(key, List.class, defaultValue);
+        List<T> value = resolve();
+        return value != null ? value : defaultValue;
     }
 
     @Override
     public boolean exists() {
-        return config.get(key, List.class).isPresent();
+        return resolve() != null;
+    }
+
+    @Override
+    public boolean compareAndSet(List<T> expected, List<T> newValue) {
+        return config.compareAndSet(path, this::resolve, expected, newValue);
+    }
+
+    @Override
+    public List<T> updateAndGet(UnaryOperator<List<T>> update) {
+        return config.updateAndGet(path, this::get, update, value -> value);
+    }
+
+    @Override
+    public String key() {
+        return path.toString();
+    }
+
+    @Override
+    public ConfigPath path() {
+        return path;
     }
 
+    public ConfigImpl config() {
+        return config;
+    }
+
+    public Class<T> elementType() {
+        return elementType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof FieldListImpl<?> other
+                && config.equals(other.config)
+                && path.equals(other.path)
+                && elementType.equals(other.elementType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(config, path, elementType);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldListImpl[config=" + config + ", path=" + path + ", elementType=" + elementType + "]";
+    }
 
     @Override
     public void add(T item) {
-        List<T> list = new ArrayList<>(get());
-        list.add(item);
-        set(list);
+        updateAndGet(current -> {
+            List<T> list = new ArrayList<>(current);
+            list.add(item);
+            return list;
+        });
     }
 
     @Override
     public void remove(T item) {
-        List<T> list = new ArrayList<>(get());
-        list.remove(item);
-        set(list);
+        updateAndGet(current -> {
+            List<T> list = new ArrayList<>(current);
+            list.remove(item);
+            return list;
+        });
     }
 
     @Override
     public int size() {
-        return get().size();
+        List<T> value = resolve();
+        return value != null ? value.size() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> resolve() {
+        long stamp = config.getVersion(path);
+        Stamped<List<T>> current = resolved;
+        if (current != null && current.stamp() == stamp) {
+            return current.value();
+        }
+
+        List<T> value = config.get(path, List.class).orElse(null);
+        resolved = new Stamped<>(stamp, value);
+        return value;
     }
 
 }
@@ -10,6 +10,7 @@
  */
 package net.rubrion.config.common.field;
 
+import net.rubrion.config.api.config.ConfigPath;
 import net.rubrion.config.api.config.ConfigSection;
 import net.rubrion.config.api.field.Field;
 import net.rubrion.config.api.field.FieldSection;
@@ -20,36 +21,122 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
 
-public record FieldSectionImpl(ConfigImpl config,
-                               String key) implements FieldSection {
+/**
+ * Section field handle that caches whether the section exists until the version of its path changes.
+ */
+public final class FieldSectionImpl implements FieldSection {
+    private final ConfigImpl config;
+    private final ConfigPath path;
+    private volatile Stamped<Boolean> resolved;
+
+    public FieldSectionImpl(ConfigImpl config, ConfigPath path) {
+        this.config = config;
+        this.path = path;
+    }
 
     @Contract(" -> new")
     @Override
     public @NotNull ConfigSection get() {
-        return new ConfigSectionImpl(config, key);
+        return new ConfigSectionImpl(config, path);
     }
 
     @Override
     public void set(ConfigSection value) {
         if (value instanceof ConfigSectionImpl impl) {
-            config.set(key, impl.getData());
+            config.set(path, impl.getData());
         }
     }
 
     @Override
     public ConfigSection getOr(ConfigSection defaultValue) {
-        return config.get(key, Map.class).isPresent() ? get() : defaultValue;
+        return exists() ? get() : defaultValue;
     }
 
     @Override
     public boolean exists() {
-        return config.get(key, Map.class).isPresent();
+        long stamp = config.getVersion(path);
+        Stamped<Boolean> current = resolved;
+        if (current != null && current.stamp() == stamp) {
+            return current.value();
+        }
+
+        boolean exists = config.get(path, Map.class).isPresent();
+        resolved = new Stamped<>(stamp, exists);
+        return exists;
+    }
+
+    @Override
+    public boolean compareAndSet(ConfigSection expected, ConfigSection newValue) {
+        if (!(newValue instanceof ConfigSectionImpl impl)) {
+            return false;
+        }
+        Map<String, Object> expectedData = expected instanceof ConfigSectionImpl section ? section.getData() : null;
+        if (expected != null && expectedData == null) {
+            return false;
+        }
+        return config.compareAndSet(path, this::currentData, expectedData, impl.getData());
+    }
+
+    @Override
+    public ConfigSection updateAndGet(UnaryOperator<ConfigSection> update) {
+        return config.updateAndGet(path, this::get, update, value -> {
+            if (!(value instanceof ConfigSectionImpl impl)) {
+                throw new IllegalArgumentException("Only sections of a config can be set");
+            }
+            return impl.getData();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> currentData() {
+        return (Map<String, Object>) config.get(path, Map.class).orElse(null);
+    }
+
+    @Override
+    public String key() {
+        return path.toString();
+    }
+
+    @Override
+    public ConfigPath path() {
+        return path;
+    }
+
+    public ConfigImpl config() {
+        return config;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof FieldSectionImpl other
+                && config.equals(other.config)
+                && path.equals(other.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(config, path);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldSectionImpl[config=" + config + ", path=" + path + "]";
     }
 
     @Override
     public <T> Field<T> getField(String subKey, Class<T> type) {
-        return config.getField(key + "." + subKey, type);
+        return config.getField(path.child(subKey), type);
+    }
+
+    @Override
+    public <T> Field<T> getField(ConfigPath subPath, Class<T> type) {
+        return config.getField(path.child(subPath), type);
     }
 
     @Override
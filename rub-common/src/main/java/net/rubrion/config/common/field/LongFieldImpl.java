@@ -0,0 +1,73 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.field;
+
+import net.rubrion.config.api.config.ConfigPath;
+import net.rubrion.config.api.field.LongField;
+import net.rubrion.config.common.adapter.type.Numbers;
+import net.rubrion.config.common.config.ConfigImpl;
+
+public class LongFieldImpl extends PrimitiveFieldImpl<Long> implements LongField {
+    private final Slot absent;
+    private volatile Slot slot;
+
+    public LongFieldImpl(ConfigImpl config, ConfigPath path, long defaultValue) {
+        super(config, path);
+        this.absent = new Slot(defaultValue, false);
+        this.slot = absent;
+    }
+
+    @Override
+    public void refresh() {
+        slot = read();
+    }
+
+    @Override
+    protected Long resolve() {
+        Slot current = read();
+        return current.present() ? current.value() : null;
+    }
+
+    private Slot read() {
+        Object raw = config.getRaw(path);
+        if (raw instanceof Number number && Numbers.fitsLong(number)) {
+            return new Slot(number.longValue(), true);
+        } else if (raw != null && !(raw instanceof Number)) {
+            Long converted = config.get(path, Long.class).orElse(null);
+            return converted != null ? new Slot(converted, true) : absent;
+        }
+        return absent;
+    }
+
+    @Override
+    public long getAsLong() {
+        return slot.value();
+    }
+
+    @Override
+    public void set(long value) {
+        config.set(path, value);
+    }
+
+    @Override
+    public boolean exists() {
+        return slot.present();
+    }
+
+    @Override
+    protected Long value() {
+        Slot current = slot;
+        return current.present() ? current.value() : null;
+    }
+
+    private record Slot(long value, boolean present) {
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.field;
+
+import net.rubrion.config.api.config.ConfigPath;
+import net.rubrion.config.api.field.Field;
+import net.rubrion.config.common.config.ConfigImpl;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Base of the primitive field bindings. The config loads the cached value through
+ * {@link #refresh()} when it binds the field and whenever the bound path may have changed.
+ * Each binding publishes its value together with whether it is present in one immutable
+ * slot, so readers never see the value of one refresh with the presence of another.
+ */
+public abstract class PrimitiveFieldImpl<T> implements Field<T> {
+    protected final ConfigImpl config;
+    protected final ConfigPath path;
+
+    protected PrimitiveFieldImpl(ConfigImpl config, ConfigPath path) {
+        this.config = config;
+        this.path = path;
+    }
+
+    public abstract void refresh();
+
+    /**
+     * Gets the cached value, or null if the path holds no value of the field's type.
+     */
+    protected abstract @Nullable T value();
+
+    /**
+     * Reads the value from the config instead of the cache, or null if the path holds no
+     * value of the field's type. Updates read through this, as the cache is only refreshed
+     * after a change was published.
+     */
+    protected abstract @Nullable T resolve();
+
+    @Override
+    public T get() {
+        return value();
+    }
+
+    @Override
+    public void set(T value) {
+        config.set(path, value);
+    }
+
+    @Override
+    public T getOr(T defaultValue) {
+        T value = value();
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public boolean compareAndSet(T expected, T newValue) {
+        return config.compareAndSet(path, this::resolve, expected, newValue);
+    }
+
+    @Override
+    public T updateAndGet(UnaryOperator<T> update) {
+        return config.updateAndGet(path, this::resolve, update, value -> value);
+    }
+
+    @Override
+    public String key() {
+        return path.toString();
+    }
+
+    @Override
+    public ConfigPath path() {
+        return path;
+    }
+}
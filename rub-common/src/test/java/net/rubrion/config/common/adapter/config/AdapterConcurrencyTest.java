@@ -0,0 +1,99 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import net.rubrion.config.api.adapter.ConfigAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdapterConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 200;
+
+    @Test
+    void yamlAdapterIsSafeForConcurrentUse() throws Exception {
+        assertRoundTripsConcurrently(new YamlConfigAdapter());
+    }
+
+    @Test
+    void yamlIndexIsSafeForConcurrentUse() throws Exception {
+        YamlConfigAdapter adapter = new YamlConfigAdapter();
+        String content = adapter.write("", data(0));
+
+        runConcurrently(worker -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                Map<String, Object> expected = data(worker * ROUNDS + round);
+                PatchableConfigAdapter.Index index = adapter.patch(adapter.index(content), expected);
+                assertNotNull(index);
+                assertEquals(expected, adapter.read(index.content()));
+            }
+        });
+    }
+
+    @Test
+    void jsonAdapterIsSafeForConcurrentUse() throws Exception {
+        assertRoundTripsConcurrently(new JsonConfigAdapter());
+    }
+
+    private static void assertRoundTripsConcurrently(ConfigAdapter adapter) throws Exception {
+        runConcurrently(worker -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                Map<String, Object> expected = data(worker * ROUNDS + round);
+                assertEquals(expected, adapter.read(adapter.write("", expected)));
+            }
+        });
+    }
+
+    private static void runConcurrently(Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int id = i;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    worker.run(id);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Map<String, Object> data(int seed) {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("id", "id-" + seed);
+        section.put("name", "worker-" + seed);
+        section.put("tags", List.of("a" + seed, "b" + seed));
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("section", section);
+        data.put("enabled", seed % 2 == 0);
+        return data;
+    }
+
+    private interface Worker {
+        void run(int id) throws Exception;
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstancePoolTest {
+    @Test
+    void idleInstancesAreReused() {
+        AtomicInteger created = new AtomicInteger();
+        InstancePool<Object> pool = new InstancePool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = pool.apply(instance -> instance);
+        Object second = pool.apply(instance -> instance);
+
+        assertSame(first, second);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void failedInstancesAreDropped() {
+        InstancePool<Object> pool = new InstancePool<>(Object::new);
+        Object failed = pool.apply(instance -> instance);
+
+        assertThrows(IllegalStateException.class, () -> pool.apply(instance -> {
+            throw new IllegalStateException();
+        }));
+
+        assertNotSame(failed, pool.apply(instance -> instance));
+    }
+
+    @Test
+    void instancesAreNeverSharedBetweenThreads() throws Exception {
+        InstancePool<Object> pool = new InstancePool<>(Object::new);
+        Set<Object> inUse = ConcurrentHashMap.newKeySet();
+        AtomicInteger shared = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                futures.add(executor.submit(() -> pool.apply(instance -> {
+                    if (!inUse.add(instance)) {
+                        shared.incrementAndGet();
+                    }
+                    Thread.yield();
+                    inUse.remove(instance);
+                    return null;
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, shared.get());
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPatchTest {
+    private static final String DOCUMENT = """
+            {
+              "name": "server",
+              "port": 25565,
+              "database": {
+                "host": "localhost",
+                "pool": {"size": 4}
+              },
+              "tags": ["a", "b"]
+            }""";
+
+    private final JsonConfigAdapter adapter = new JsonConfigAdapter();
+
+    @Test
+    void changedValuesAreSplicedInPlace() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("port", 25566L);
+        section(data, "database").put("host", "example.org");
+
+        String patched = patch(data, List.of("port", "database.host"));
+
+        assertEquals(DOCUMENT.replace("25565", "25566").replace("localhost", "example.org"), patched);
+        assertEquals(data, adapter.read(patched));
+    }
+
+    @Test
+    void valuesNeedingEscapesRoundTrip() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("name", "quote \" backslash \\ <tag> é");
+        data.put("tags", List.of("x", 1.5, true));
+
+        String patched = patch(data, List.of("name", "tags"));
+
+        assertEquals(data, adapter.read(patched));
+        assertTrue(patched.contains("\"pool\": {\"size\": 4}"));
+    }
+
+    @Test
+    void newKeysAndSectionsRoundTrip() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        section(section(data, "database"), "pool").put("timeout", 30L);
+        Map<String, Object> cache = new LinkedHashMap<>();
+        cache.put("enabled", true);
+        cache.put("entries", null);
+        data.put("cache", cache);
+
+        String patched = patch(data, List.of("database.pool.timeout", "cache"));
+
+        assertEquals(data, adapter.read(patched));
+        assertTrue(patched.startsWith("{\n  \"name\": \"server\",\n  \"port\": 25565,"));
+    }
+
+    @Test
+    void fullPatchOnlyRewritesDifferences() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        section(section(data, "database"), "pool").put("size", 16L);
+
+        PatchableConfigAdapter.Index patched = adapter.patch(adapter.index(DOCUMENT), data);
+
+        assertNotNull(patched);
+        assertEquals(DOCUMENT.replace("\"size\": 4", "\"size\": 16"), patched.content());
+    }
+
+    @Test
+    void writeDumpsTheData() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("port", 1L);
+
+        assertEquals(data, adapter.read(adapter.write(DOCUMENT, data)));
+    }
+
+    @Test
+    void updateValueKeepsLayout() throws Exception {
+        String updated = adapter.updateValue(DOCUMENT, "database.pool.size", 6);
+
+        assertEquals(DOCUMENT.replace("\"size\": 4", "\"size\": 6"), updated);
+    }
+
+    private String patch(Map<String, Object> data, List<String> changedKeys) throws Exception {
+        PatchableConfigAdapter.Index patched = adapter.index(DOCUMENT).patch(data, changedKeys);
+        assertNotNull(patched);
+        return patched.content();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> data, String key) {
+        return (Map<String, Object>) data.get(key);
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TomlPatchTest {
+    private static final String DOCUMENT = """
+            # header
+            name = "server" # inline
+            port = 25565
+
+            # nested table
+            [database]
+            host = "localhost"
+            ratio = 0.5
+
+            [database.pool]
+            size = 4
+            """;
+
+    private final TomlConfigAdapter adapter = new TomlConfigAdapter();
+
+    @Test
+    void changedValuesAreRewrittenInPlace() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("port", 25566L);
+        section(data, "database").put("host", "example.org");
+
+        String patched = patch(data, List.of("port", "database.host"));
+
+        assertEquals(DOCUMENT.replace("25565", "25566").replace("localhost", "example.org"), patched);
+        assertEquals(data, adapter.read(patched));
+    }
+
+    @Test
+    void valuesNeedingEscapesRoundTrip() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("name", "quote \" and # hash\nnewline");
+        section(data, "database").put("ratio", 1.25);
+
+        String patched = patch(data, List.of("name", "database.ratio"));
+
+        assertEquals(data, adapter.read(patched));
+        assertTrue(patched.contains("# nested table\n"));
+    }
+
+    @Test
+    void arraysRoundTrip() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("port", List.of(1L, 2L, 3L));
+
+        String patched = patch(data, List.of("port"));
+
+        assertEquals(data, adapter.read(patched));
+    }
+
+    @Test
+    void newKeysAndTablesRoundTrip() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        section(section(data, "database"), "pool").put("timeout", 30L);
+        data.put("motd", "hello");
+        Map<String, Object> cache = new LinkedHashMap<>();
+        cache.put("enabled", true);
+        data.put("cache", cache);
+
+        String patched = patch(data, List.of("database.pool.timeout", "motd", "cache"));
+
+        assertEquals(data, adapter.read(patched));
+        assertTrue(patched.startsWith("# header\n"));
+        assertTrue(patched.contains("# nested table\n"));
+    }
+
+    @Test
+    void fullPatchOnlyRewritesDifferences() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        section(section(data, "database"), "pool").put("size", 16L);
+
+        PatchableConfigAdapter.Index patched = adapter.patch(adapter.index(DOCUMENT), data);
+
+        assertNotNull(patched);
+        assertEquals(DOCUMENT.replace("size = 4", "size = 16"), patched.content());
+    }
+
+    @Test
+    void updateValueKeepsComments() throws Exception {
+        String updated = adapter.updateValue(DOCUMENT, "database.host", "db");
+
+        assertEquals(DOCUMENT.replace("\"localhost\"", "\"db\""), updated);
+    }
+
+    private String patch(Map<String, Object> data, List<String> changedKeys) throws Exception {
+        PatchableConfigAdapter.Index patched = adapter.index(DOCUMENT).patch(data, changedKeys);
+        assertNotNull(patched);
+        return patched.content();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> data, String key) {
+        return (Map<String, Object>) data.get(key);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class YamlPatchTest {
+    private static final String DOCUMENT = """
+            # header
+            name: server # inline
+            port: 25565
+            # nested section
+            database:
+              host: localhost
+              pool:
+                size: 4
+            tags:
+              - a
+              - b
+            """;
+
+    private final YamlConfigAdapter adapter = new YamlConfigAdapter();
+
+    @Test
+    void changedScalarsAreRewrittenInPlace() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("port", 25566);
+        section(data, "database").put("host", "example.org");
+
+        String patched = patch(data, List.of("port", "database.host"));
+
+        assertEquals(DOCUMENT.replace("25565", "25566").replace("localhost", "example.org"), patched);
+        assertEquals(data, adapter.read(patched));
+    }
+
+    @Test
+    void valuesNeedingQuotesRoundTrip() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("name", "a: b # not a comment");
+        section(data, "database").put("host", "");
+
+        String patched = patch(data, List.of("name", "database.host"));
+
+        assertEquals(data, adapter.read(patched));
+        assertTrue(patched.contains("# header\n"));
+        assertTrue(patched.contains("# nested section\n"));
+    }
+
+    @Test
+    void listsAndSectionsRoundTrip() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("tags", List.of("x", "y", "z"));
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("size", 8);
+        pool.put("timeout", 30);
+        section(data, "database").put("pool", pool);
+
+        String patched = patch(data, List.of("tags", "database.pool"));
+
+        assertEquals(data, adapter.read(patched));
+        assertTrue(patched.startsWith("# header\nname: server # inline\n"));
+    }
+
+    @Test
+    void newKeysAreInsertedIntoTheirSection() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        section(data, "database").put("user", "admin");
+        data.put("motd", "hello");
+
+        String patched = patch(data, List.of("database.user", "motd"));
+
+        assertEquals(data, adapter.read(patched));
+        assertTrue(patched.contains("# nested section\n"));
+    }
+
+    @Test
+    void fullPatchOnlyRewritesDifferences() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        section(section(data, "database"), "pool").put("size", 16);
+
+        PatchableConfigAdapter.Index patched = adapter.patch(adapter.index(DOCUMENT), data);
+
+        assertNotNull(patched);
+        assertEquals(DOCUMENT.replace("size: 4", "size: 16"), patched.content());
+    }
+
+    @Test
+    void removedKeysNeedAFullWrite() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.remove("tags");
+
+        assertNull(adapter.patch(adapter.index(DOCUMENT), data));
+    }
+
+    @Test
+    void writeDumpsTheData() throws Exception {
+        Map<String, Object> data = adapter.read(DOCUMENT);
+        data.put("port", 1);
+
+        String written = adapter.write(DOCUMENT, data);
+
+        assertEquals(data, adapter.read(written));
+        assertTrue(written.startsWith("# header\n# nested section\nname: server\n"));
+    }
+
+    @Test
+    void updateValueKeepsComments() throws Exception {
+        String updated = adapter.updateValue(DOCUMENT, "database.pool.size", 6);
+
+        assertEquals(DOCUMENT.replace("size: 4", "size: 6"), updated);
+    }
+
+    private String patch(Map<String, Object> data, List<String> changedKeys) throws Exception {
+        PatchableConfigAdapter.Index patched = adapter.index(DOCUMENT).patch(data, changedKeys);
+        assertNotNull(patched);
+        return patched.content();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> data, String key) {
+        return (Map<String, Object>) data.get(key);
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.type;
+
+import net.rubrion.config.api.adapter.TypeAdapter;
+import net.rubrion.config.common.adapter.config.YamlConfigAdapter;
+import net.rubrion.config.common.config.ConfigImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TryConvertTest {
+    private final TypeAdapterRegistryImpl registry = new TypeAdapterRegistryImpl();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void validValuesConvert() {
+        assertEquals(12, registry.tryConvert("12", Integer.class));
+        assertEquals(12L, registry.tryConvert("12", Long.class));
+        assertEquals(1.5, registry.tryConvert("1.5", Double.class));
+        assertEquals(true, registry.tryConvert("true", Boolean.class));
+        assertEquals("3", registry.tryConvert(3, String.class));
+    }
+
+    @Test
+    void invalidValuesFailWithoutThrowing() {
+        assertSame(TypeAdapter.FAILED, registry.tryConvert("abc", Integer.class));
+        assertSame(TypeAdapter.FAILED, registry.tryConvert("5000000000", Integer.class));
+        assertSame(TypeAdapter.FAILED, registry.tryConvert("1.5.5", Double.class));
+        assertSame(TypeAdapter.FAILED, registry.tryConvert("value", Thread.class));
+        assertNull(registry.tryConvert(null, Integer.class));
+    }
+
+    @Test
+    void convertStillThrows() {
+        assertThrows(NumberFormatException.class, () -> registry.convert("abc", Integer.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.convert("value", Thread.class));
+    }
+
+    @Test
+    void configReturnsEmptyForUnconvertibleValues() throws Exception {
+        Path file = Files.writeString(dir.resolve("config.yml"), "word: abc\n");
+        ConfigImpl config = new ConfigImpl(file, new YamlConfigAdapter(), registry);
+
+        assertEquals(Optional.empty(), config.get("word", Integer.class));
+        assertEquals(Optional.empty(), config.get("word", Integer.class));
+        assertEquals(Optional.empty(), config.get("missing", Integer.class));
+        assertEquals(Integer.valueOf(5), config.getOr("word", Integer.class, 5));
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.adapter.type;
+
+import net.rubrion.config.api.adapter.TypeAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeAdapterRegistryTest {
+    private final TypeAdapterRegistryImpl registry = new TypeAdapterRegistryImpl();
+
+    @Test
+    void subtypesResolveToTheirSupertypeAdapter() {
+        assertSame(registry.getAdapter(List.class), registry.getAdapter(ArrayList.class));
+        assertSame(registry.getAdapter(List.class), registry.getAdapter(LinkedList.class));
+        assertNotNull(registry.getAdapter(HashMap.class));
+        assertTrue(registry.hasAdapter(ArrayList.class));
+    }
+
+    @Test
+    void missingAdaptersAreCachedAsAbsent() {
+        assertNull(registry.getAdapter(Thread.class));
+        assertNull(registry.getAdapter(Thread.class));
+        assertFalse(registry.hasAdapter(Thread.class));
+    }
+
+    @Test
+    void laterRegistrationsTakeEffect() {
+        assertNull(registry.getAdapter(Name.class));
+
+        NameAdapter adapter = new NameAdapter();
+        registry.register(Name.class, adapter);
+
+        assertSame(adapter, registry.getAdapter(Name.class));
+        assertEquals(new Name("test"), registry.convert("test", Name.class));
+    }
+
+    @Test
+    void exactRegistrationsWinOverSupertypes() {
+        TypeAdapter<ArrayList<?>> adapter = new ArrayListAdapter();
+        assertSame(registry.getAdapter(List.class), registry.getAdapter(ArrayList.class));
+
+        //noinspection unchecked,rawtypes
+        registry.register((Class) ArrayList.class, adapter);
+
+        assertSame(adapter, registry.getAdapter(ArrayList.class));
+        assertNotSame(adapter, registry.getAdapter(LinkedList.class));
+    }
+
+    @Test
+    void concurrentRegistrationsAreNotLost() throws Exception {
+        int threads = 8;
+        List<Class<?>> types = List.of(Name.class, Thread.class, Runnable.class, StringBuilder.class,
+                Character.class, Short.class, Byte.class, Number.class);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Class<?> type : types) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    register(type);
+                    for (int i = 0; i < 1000; i++) {
+                        assertNotNull(registry.getAdapter(String.class));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (Class<?> type : types) {
+            assertNotNull(registry.getAdapter(type), type.getName());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void register(Class<?> type) {
+        registry.register((Class) type, new StringAdapter());
+    }
+
+    private record Name(String value) {
+    }
+
+    private static final class NameAdapter implements TypeAdapter<Name> {
+        @Override
+        public Name fromConfig(Object configValue) {
+            return new Name(String.valueOf(configValue));
+        }
+
+        @Override
+        public Object toConfig(Name value) {
+            return value.value();
+        }
+
+        @Override
+        public Class<Name> getType() {
+            return Name.class;
+        }
+    }
+
+    private static final class ArrayListAdapter implements TypeAdapter<ArrayList<?>> {
+        @Override
+        public ArrayList<?> fromConfig(Object configValue) {
+            return new ArrayList<>((List<?>) configValue);
+        }
+
+        @Override
+        public Object toConfig(ArrayList<?> value) {
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Class<ArrayList<?>> getType() {
+            return (Class) ArrayList.class;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactMapTest {
+
+    @Test
+    void behavesLikeAMap() {
+        CompactMap map = new CompactMap();
+        Map<String, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put("k" + i, i);
+            expected.put("k" + i, i);
+        }
+        map.put("k3", "replaced");
+        expected.put("k3", "replaced");
+        map.remove("k5");
+        expected.remove("k5");
+        map.put("null", null);
+        expected.put("null", null);
+
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+        assertTrue(map.containsKey("null"));
+        assertNull(map.get("missing"));
+    }
+
+    @Test
+    void iteratorsRemoveAndUpdateEntries() {
+        CompactMap map = new CompactMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        map.entrySet().removeIf(entry -> entry.getKey().equals("b"));
+        map.entrySet().forEach(entry -> entry.setValue((Integer) entry.getValue() * 10));
+
+        assertEquals(Map.of("a", 10, "c", 30), map);
+    }
+
+    @Test
+    void frozenMapsRejectChanges() {
+        CompactMap map = new CompactMap();
+        map.put("a", 1);
+        map.freeze();
+
+        assertTrue(map.isFrozen());
+        assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertEquals(1, map.get("a"));
+    }
+
+    @Test
+    void compactingKeepsTheTreeAndOrder() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("z", 1);
+        nested.put("y", List.of(Map.of("x", 2)));
+        Map<String, Object> large = new LinkedHashMap<>();
+        for (int i = 0; i < ConfigNodes.MAX_COMPACT_SIZE + 1; i++) {
+            large.put("k" + i, i);
+        }
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("nested", nested);
+        tree.put("large", large);
+
+        Map<String, Object> compacted = ConfigNodes.compactRoot(tree, new KeyPool());
+
+        assertEquals(tree, compacted);
+        assertInstanceOf(CompactMap.class, compacted);
+        assertInstanceOf(CompactMap.class, compacted.get("nested"));
+        assertFalse(compacted.get("large") instanceof CompactMap);
+        assertEquals(List.of("z", "y"), new ArrayList<>(((Map<?, ?>) compacted.get("nested")).keySet()));
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.api.config.ConfigSection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static net.rubrion.config.common.config.TestConfigs.create;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentModeTest {
+    private static final String DOCUMENT = "server:\n  port: 8080\n  host: localhost\nnames:\n  - a\n  - b\n";
+    private static final ConfigOptions CONCURRENT = ConfigOptions.builder().concurrent(true).build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void snapshotsAreIsolatedFromLaterWrites() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT, CONCURRENT);
+        ConfigSection snapshot = config.snapshot();
+
+        config.set("server.port", 9090);
+
+        assertEquals(8080, snapshot.getInt("server.port", 0));
+        assertEquals(9090, config.getInt("server.port", 0));
+        assertEquals(9090, config.snapshot().getInt("server.port", 0));
+    }
+
+    @Test
+    void publishedTreeRejectsMutation() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT, CONCURRENT);
+        Map<?, ?> server = config.get("server", Map.class).orElseThrow();
+
+        assertThrows(UnsupportedOperationException.class, () -> config.getData().put("other", 1));
+        assertThrows(UnsupportedOperationException.class, () -> server.clear());
+        assertThrows(UnsupportedOperationException.class, () -> config.snapshot().set("server.port", 1));
+    }
+
+    @Test
+    void copyOnWriteKeepsUntouchedSections() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT, CONCURRENT);
+        Object names = config.getData().get("names");
+
+        config.set("server.host", "example.org");
+
+        assertSame(names, config.getData().get("names"));
+        assertEquals("example.org", config.get("server.host", String.class).orElseThrow());
+        assertEquals(8080, config.getInt("server.port", 0));
+    }
+
+    @Test
+    void regularSnapshotsAreDeepCopies() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+        ConfigSection snapshot = config.snapshot();
+
+        config.set("server.port", 9090);
+        config.set("names", List.of("c"));
+
+        assertEquals(8080, snapshot.getInt("server.port", 0));
+        assertEquals(List.of("a", "b"), snapshot.get("names", List.class).orElseThrow());
+    }
+}
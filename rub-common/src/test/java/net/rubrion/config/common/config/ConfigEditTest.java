@@ -0,0 +1,79 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static net.rubrion.config.common.config.TestConfigs.open;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigEditTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void editWritesOnceAtTheEnd() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = open(file);
+        String initial = Files.readString(file);
+
+        config.edit(edit -> {
+            edit.set("a", 1);
+            edit.set("b", 2);
+            try {
+                assertEquals(initial, Files.readString(file));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        ConfigImpl reloaded = open(file);
+        assertEquals(1, reloaded.getInt("a", 0));
+        assertEquals(2, reloaded.getInt("b", 0));
+    }
+
+    @Test
+    void failedEditRollsBack() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = open(file);
+        config.set("a", 1);
+        String saved = Files.readString(file);
+
+        assertThrows(IllegalStateException.class, () -> config.edit(edit -> {
+            edit.set("a", 2);
+            edit.set("b.c", 3);
+            throw new IllegalStateException("abort");
+        }));
+
+        assertEquals(1, config.getInt("a", 0));
+        assertFalse(config.get("b.c", Object.class).isPresent());
+        assertEquals(saved, Files.readString(file));
+    }
+
+    @Test
+    void nestedEditsJoinTheOuterOne() {
+        ConfigImpl config = open(dir.resolve("config.yml"));
+
+        config.edit(outer -> {
+            outer.set("a", 1);
+            outer.edit(inner -> inner.set("b", 2));
+        });
+
+        assertEquals(1, config.getInt("a", 0));
+        assertEquals(2, config.getInt("b", 0));
+    }
+}
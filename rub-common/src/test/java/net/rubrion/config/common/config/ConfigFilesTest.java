@@ -0,0 +1,104 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.common.adapter.config.YamlConfigAdapter;
+import net.rubrion.config.common.adapter.type.TypeAdapterRegistryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ConfigFilesTest {
+    private static final ConfigOptions ATOMIC = ConfigOptions.builder().atomicWrites(true).build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void atomicWriteReplacesContentAndLeavesNoTempFiles() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigFiles.write(file, "a: 1\n", ATOMIC);
+        ConfigFiles.write(file, "a: 2\n", ATOMIC);
+
+        assertEquals("a: 2\n", Files.readString(file));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void durableWritesForceTheFileAndItsDirectory() throws Exception {
+        Path file = dir.resolve("nested").resolve("config.yml");
+        ConfigOptions durable = ConfigOptions.builder().atomicWrites(true).fsync(true).build();
+
+        ConfigFiles.write(file, "a: 1\n", durable);
+        ConfigFiles.stream(file, durable, out -> out.write("a: 2\n"), null);
+
+        assertEquals("a: 2\n", Files.readString(file));
+    }
+
+    @Test
+    void atomicWriteKeepsPermissions() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigFiles.write(file, "a: 1\n", ATOMIC);
+        assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        ConfigFiles.write(file, "a: 2\n", ATOMIC);
+
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    void streamSkipsUnchangedContent() throws Exception {
+        Path file = dir.resolve("config.json");
+        ConfigFiles.Checksum checksum = ConfigFiles.stream(file, ATOMIC, out -> out.write("{}"), null);
+        Object key = fileKey(file);
+
+        ConfigFiles.Checksum second = ConfigFiles.stream(file, ATOMIC, out -> out.write("{}"), checksum);
+
+        assertEquals(checksum, second);
+        assertEquals(ConfigFiles.checksum("{}".getBytes(StandardCharsets.UTF_8)), checksum);
+        assertEquals(key, fileKey(file));
+    }
+
+    @Test
+    void unchangedOutputIsNotWritten() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = new ConfigImpl(file, new YamlConfigAdapter(), new TypeAdapterRegistryImpl(),
+                ATOMIC, null, null);
+        config.set("a", 1);
+        Object key = fileKey(file);
+
+        config.set("a", 1);
+        config.save();
+
+        assertEquals(key, fileKey(file));
+    }
+
+    private static Object fileKey(Path file) throws Exception {
+        return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+    }
+}
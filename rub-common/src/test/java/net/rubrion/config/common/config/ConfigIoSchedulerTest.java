@@ -0,0 +1,97 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.api.config.IoStats;
+import net.rubrion.config.common.adapter.config.YamlConfigAdapter;
+import net.rubrion.config.common.adapter.type.TypeAdapterRegistryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigIoSchedulerTest {
+    private final ConfigIoScheduler scheduler = new ConfigIoScheduler(1);
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void latestContentWins() throws Exception {
+        Path file = dir.resolve("config.yml");
+        for (int i = 0; i < 100; i++) {
+            scheduler.submit(file, "value: " + i, ConfigOptions.defaults());
+        }
+        scheduler.flush();
+
+        assertEquals("value: 99", Files.readString(file));
+        IoStats stats = scheduler.stats();
+        assertEquals(0, stats.queueDepth());
+        assertTrue(stats.completedWrites() >= 1);
+        assertTrue(stats.maxFlushLatency().compareTo(stats.averageFlushLatency()) >= 0);
+    }
+
+    @Test
+    void writesAfterShutdownLandInOrder() throws Exception {
+        Path file = dir.resolve("config.yml");
+        scheduler.submit(file, "first", ConfigOptions.defaults());
+        scheduler.shutdown();
+
+        CompletableFuture<Void> done = scheduler.submit(file, "second", ConfigOptions.defaults());
+
+        assertTrue(done.isDone());
+        assertEquals("second", Files.readString(file));
+    }
+
+    @Test
+    void failedWritesCompleteExceptionally() throws Exception {
+        Path blocker = Files.createFile(dir.resolve("blocker"));
+
+        CompletableFuture<Void> done = scheduler.submit(blocker.resolve("config.yml"), "value: 1",
+                ConfigOptions.defaults());
+        scheduler.flush();
+
+        assertThrows(ExecutionException.class, done::get);
+    }
+
+    @Test
+    void configRetriesAFailedWrite() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = new ConfigImpl(file, new YamlConfigAdapter(), new TypeAdapterRegistryImpl(),
+                ConfigOptions.builder().asyncWrites(true).build(), null, scheduler);
+        config.set("a", 1);
+        scheduler.flush();
+
+        Files.delete(file);
+        Path blocker = Files.createFile(Files.createDirectory(file).resolve("blocker"));
+        config.set("a", 2);
+        scheduler.flush();
+
+        Files.delete(blocker);
+        Files.delete(file);
+        config.save();
+        scheduler.flush();
+
+        assertEquals("a: 2\n", Files.readString(file));
+    }
+}
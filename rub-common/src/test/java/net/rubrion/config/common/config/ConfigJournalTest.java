@@ -0,0 +1,121 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static net.rubrion.config.common.config.TestConfigs.open;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigJournalTest {
+    private static final ConfigOptions JOURNAL = ConfigOptions.builder().journal(1 << 20).build();
+
+    private final ConfigFlusher flusher = new ConfigFlusher();
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void shutdown() {
+        flusher.shutdown();
+    }
+
+    @Test
+    void replayKeepsNumberTypes() throws Exception {
+        ConfigJournal journal = new ConfigJournal(dir.resolve("config.yml"));
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("int", 1);
+        nested.put("double", 2.0);
+        nested.put("list", List.of(3L, "text", 4.5f));
+        journal.append("int", 5, false);
+        journal.append("double", 5.0, false);
+        journal.append("long", 6L, false);
+        journal.append("decimal", new BigDecimal("1.50"), false);
+        journal.append("nested", nested, false);
+        journal.append("none", null, false);
+        journal.close();
+
+        Map<String, Object> replayed = new LinkedHashMap<>();
+        new ConfigJournal(dir.resolve("config.yml")).replay(replayed::put);
+
+        assertEquals(Integer.valueOf(5), replayed.get("int"));
+        assertEquals(Double.valueOf(5.0), replayed.get("double"));
+        assertEquals(Long.valueOf(6L), replayed.get("long"));
+        assertEquals(new BigDecimal("1.50"), replayed.get("decimal"));
+        assertEquals(nested, replayed.get("nested"));
+        assertTrue(replayed.containsKey("none"));
+        assertNull(replayed.get("none"));
+    }
+
+    @Test
+    void untypedAndCorruptRecordsAreReadAsBefore() throws Exception {
+        ConfigJournal journal = new ConfigJournal(dir.resolve("config.yml"));
+        Files.writeString(journal.getPath(), "{\"k\":\"a\",\"v\":5}\n{broken\n{\"k\":\"b\",\"v\":1.5}\n",
+                StandardCharsets.UTF_8);
+
+        Map<String, Object> replayed = new LinkedHashMap<>();
+        journal.replay(replayed::put);
+
+        assertEquals(Map.of("a", 5L, "b", 1.5), replayed);
+    }
+
+    @Test
+    void channelStaysOpenUntilCleared() throws Exception {
+        ConfigJournal journal = new ConfigJournal(dir.resolve("config.yml"));
+        journal.append("a", 1, false);
+        journal.append("b", 2, false);
+        assertTrue(journal.isOpen());
+        assertEquals(Files.size(journal.getPath()), journal.size());
+
+        journal.clear();
+
+        assertFalse(journal.isOpen());
+        assertFalse(Files.exists(journal.getPath()));
+        assertEquals(0, journal.size());
+    }
+
+    @Test
+    void configReplaysUncompactedChanges() {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = open(file, JOURNAL, flusher);
+        config.set("a", 5.0);
+        config.set("b.c", 7);
+        config.closeJournal();
+
+        ConfigImpl reopened = open(file, JOURNAL, flusher);
+
+        assertEquals(Optional.of(5.0), reopened.get("a", Object.class));
+        assertEquals(Optional.of(7), reopened.get("b.c", Object.class));
+    }
+
+    @Test
+    void shutdownCompactsAndClosesTheJournal() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = open(file, JOURNAL, flusher);
+        config.set("a", 1);
+        Path journal = file.resolveSibling("config.yml.journal");
+        assertTrue(Files.exists(journal));
+
+        flusher.shutdown();
+
+        assertFalse(Files.exists(journal));
+        assertEquals("a: 1\n", Files.readString(file));
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigPath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigPathTest {
+
+    @Test
+    void pathsAreSplitIntoSegments() {
+        ConfigPath path = ConfigPath.of("a.b.c");
+
+        assertEquals(3, path.size());
+        assertEquals("a", path.getSegment(0));
+        assertEquals("c", path.getLast());
+        assertEquals("a.b.c", path.toString());
+    }
+
+    @Test
+    void pathsAreCached() {
+        assertSame(ConfigPath.of("cached.key"), ConfigPath.of("cached.key"));
+        ConfigPath parent = ConfigPath.of("cached");
+        assertSame(parent.child("key"), parent.child("key"));
+    }
+
+    @Test
+    void newKeysAreCachedAfterTheCacheFilledUp() {
+        ConfigPath hot = ConfigPath.of("cache.hot");
+        for (int i = 0; i < 10_000; i++) {
+            ConfigPath.of("cache.cold." + i);
+            assertSame(hot, ConfigPath.of("cache.hot"));
+        }
+
+        ConfigPath late = ConfigPath.of("cache.late");
+        assertSame(late, ConfigPath.of("cache.late"));
+    }
+
+    @Test
+    void newChildrenAreCachedAfterTheCacheFilledUp() {
+        ConfigPath players = ConfigPath.of("players");
+        for (int i = 0; i < 1000; i++) {
+            players.child("player" + i);
+        }
+
+        ConfigPath late = players.child("late");
+        assertSame(late, players.child("late"));
+    }
+
+    @Test
+    void childPathsEqualParsedPaths() {
+        ConfigPath child = ConfigPath.of("a").child("b.c");
+
+        assertEquals(ConfigPath.of("a.b.c"), child);
+        assertEquals(ConfigPath.of("a.b.c").hashCode(), child.hashCode());
+        assertEquals("a.b.c", child.toString());
+    }
+
+    @Test
+    void parentOfSingleSegmentChild() {
+        ConfigPath parent = ConfigPath.of("a.b");
+
+        assertSame(parent, parent.child("c").getParent());
+    }
+
+    @Test
+    void parentOfMultiSegmentChild() {
+        ConfigPath child = ConfigPath.of("a").child("b.c");
+
+        assertEquals(ConfigPath.of("a.b"), child.getParent());
+        assertEquals(ConfigPath.of("a"), child.getParent().getParent());
+        assertNull(child.getParent().getParent().getParent());
+    }
+
+    @Test
+    void parentOfComposedPath() {
+        ConfigPath child = ConfigPath.of("x.y").child(ConfigPath.of("z.w"));
+
+        assertEquals(ConfigPath.of("x.y.z"), child.getParent());
+    }
+
+    @Test
+    void invalidKeysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ConfigPath.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ConfigPath.of("a").child((String) null));
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.adapter.TypeAdapter;
+import net.rubrion.config.common.adapter.type.TypeAdapterRegistryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.rubrion.config.common.config.TestConfigs.create;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionCacheTest {
+    private static final String DOCUMENT = "server:\n  main: localhost:1\nother: host:3\n";
+
+    private final TypeAdapterRegistryImpl registry = new TypeAdapterRegistryImpl();
+    private final CountingAdapter adapter = new CountingAdapter();
+
+    @TempDir
+    Path dir;
+
+    ConversionCacheTest() {
+        registry.register(Endpoint.class, adapter);
+    }
+
+    @Test
+    void valuesAreConvertedOnce() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT, registry);
+
+        assertEquals(new Endpoint("localhost:1"), config.get("server.main", Endpoint.class).orElseThrow());
+        assertEquals(new Endpoint("localhost:1"), config.get("server.main", Endpoint.class).orElseThrow());
+
+        assertEquals(1, adapter.calls.get());
+    }
+
+    @Test
+    void setsDropTheConversionsOfTheirSectionOnly() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT, registry);
+        config.get("server.main", Endpoint.class);
+        config.get("other", Endpoint.class);
+
+        config.set("unrelated", 1);
+        config.get("server.main", Endpoint.class);
+        config.get("other", Endpoint.class);
+        assertEquals(2, adapter.calls.get());
+
+        config.set("server.backup", "remote:2");
+        config.get("server.main", Endpoint.class);
+        config.get("other", Endpoint.class);
+        assertEquals(3, adapter.calls.get());
+    }
+
+    @Test
+    void sectionsChangedInPlaceAreConvertedAgain() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT, registry);
+        registry.register(Keys.class, new TypeAdapter<>() {
+            @Override
+            public Keys fromConfig(Object configValue) {
+                return new Keys(((Map<?, ?>) configValue).size());
+            }
+
+            @Override
+            public Object toConfig(Keys value) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Class<Keys> getType() {
+                return Keys.class;
+            }
+        });
+        assertEquals(new Keys(1), config.get("server", Keys.class).orElseThrow());
+
+        config.set("server.backup", "remote:2");
+
+        assertEquals(new Keys(2), config.get("server", Keys.class).orElseThrow());
+    }
+
+    @Test
+    void adaptersRegisteredLaterTakeEffect() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT, registry);
+        config.get("other", Endpoint.class);
+
+        registry.register(Endpoint.class, new CountingAdapter() {
+            @Override
+            public Endpoint fromConfig(Object configValue) {
+                return new Endpoint("replaced");
+            }
+        });
+
+        assertEquals(new Endpoint("replaced"), config.get("other", Endpoint.class).orElseThrow());
+    }
+
+    record Endpoint(String address) {
+    }
+
+    record Keys(int count) {
+    }
+
+    static class CountingAdapter implements TypeAdapter<Endpoint> {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Endpoint fromConfig(Object configValue) {
+            calls.incrementAndGet();
+            return new Endpoint(configValue.toString());
+        }
+
+        @Override
+        public Object toConfig(Endpoint value) {
+            return value.address();
+        }
+
+        @Override
+        public Class<Endpoint> getType() {
+            return Endpoint.class;
+        }
+    }
+}
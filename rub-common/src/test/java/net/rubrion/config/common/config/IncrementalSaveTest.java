@@ -0,0 +1,112 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static net.rubrion.config.common.config.TestConfigs.open;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalSaveTest {
+    private static final String DOCUMENT = """
+            # header
+            a: 1 # first
+            # about b
+            b:
+              c: 2
+              d: text
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void incrementalWriteKeepsComments() throws Exception {
+        Path file = write(DOCUMENT);
+        ConfigImpl config = open(file);
+
+        config.set("b.c", 3);
+
+        assertEquals(DOCUMENT.replace("c: 2", "c: 3"), Files.readString(file));
+    }
+
+    @Test
+    void fullSaveKeepsComments() throws Exception {
+        Path file = write(DOCUMENT);
+        ConfigImpl config = open(file);
+        //noinspection unchecked
+        ((Map<String, Object>) config.get("b", Map.class).orElseThrow()).put("d", "changed");
+
+        config.save();
+
+        assertEquals(DOCUMENT.replace("d: text", "d: changed"), Files.readString(file));
+    }
+
+    @Test
+    void writeAfterRollbackKeepsComments() throws Exception {
+        Path file = write(DOCUMENT);
+        ConfigImpl config = open(file);
+        assertThrows(IllegalStateException.class, () -> config.edit(edit -> {
+            edit.set("b.c", 5);
+            throw new IllegalStateException("abort");
+        }));
+
+        config.set("a", 4);
+
+        assertEquals(DOCUMENT.replace("a: 1", "a: 4"), Files.readString(file));
+    }
+
+    @Test
+    void manyChangesKeepComments() throws Exception {
+        StringBuilder document = new StringBuilder("# header\n");
+        for (int i = 0; i < 300; i++) {
+            document.append("# key ").append(i).append('\n').append('k').append(i).append(": 0\n");
+        }
+        Path file = write(document.toString());
+        ConfigImpl config = open(file);
+
+        config.edit(edit -> {
+            for (int i = 0; i < 300; i++) {
+                edit.set("k" + i, i);
+            }
+        });
+
+        String expected = document.toString();
+        for (int i = 0; i < 300; i++) {
+            expected = expected.replace("k" + i + ": 0\n", "k" + i + ": " + i + "\n");
+        }
+        assertEquals(expected, Files.readString(file));
+    }
+
+    @Test
+    void structuralChangesFallBackToFragments() throws Exception {
+        Path file = write(DOCUMENT);
+        ConfigImpl config = open(file);
+        //noinspection unchecked
+        ((Map<String, Object>) config.get("b", Map.class).orElseThrow()).remove("d");
+
+        config.save();
+
+        ConfigImpl reloaded = open(file);
+        assertEquals(1, reloaded.getInt("a", 0));
+        assertEquals(2, reloaded.getInt("b.c", 0));
+        assertFalse(reloaded.get("b.d", String.class).isPresent());
+    }
+
+    private Path write(String content) throws Exception {
+        return Files.writeString(dir.resolve("config.yml"), content);
+    }
+}
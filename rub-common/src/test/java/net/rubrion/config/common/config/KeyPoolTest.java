@@ -0,0 +1,67 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.KeyPoolStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static net.rubrion.config.common.config.TestConfigs.open;
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyPoolTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void equalStringsShareOneInstance() {
+        KeyPool pool = new KeyPool();
+        String first = pool.intern(new String("key"));
+        String second = pool.intern(new String("key"));
+
+        assertSame(first, second);
+        KeyPoolStats stats = pool.stats();
+        assertEquals(1, stats.pooled());
+        assertEquals(2, stats.lookups());
+        assertEquals(1, stats.hits());
+        assertTrue(stats.savedBytes() > 0);
+    }
+
+    @Test
+    void onlyShortStringValuesArePooled() {
+        KeyPool pool = new KeyPool();
+        String longValue = "x".repeat(KeyPool.MAX_VALUE_LENGTH + 1);
+
+        assertSame(pool.internValue(new String("short")), pool.internValue(new String("short")));
+        assertNotSame(pool.internValue(new String(longValue)), pool.internValue(new String(longValue)));
+        assertEquals(42, pool.internValue(42));
+    }
+
+    @Test
+    void configsOfOneFactoryShareKeys() throws Exception {
+        KeyPool pool = new KeyPool();
+        Path first = Files.writeString(dir.resolve("first.yml"), "settings:\n  mode: fast\n");
+        Path second = Files.writeString(dir.resolve("second.yml"), "settings:\n  mode: fast\n");
+
+        ConfigImpl a = open(first, pool);
+        ConfigImpl b = open(second, pool);
+
+        Map.Entry<String, Object> left = a.getData().entrySet().iterator().next();
+        Map.Entry<String, Object> right = b.getData().entrySet().iterator().next();
+        assertSame(left.getKey(), right.getKey());
+        assertSame(a.get("settings.mode", String.class).orElseThrow(), b.get("settings.mode", String.class).orElseThrow());
+    }
+}
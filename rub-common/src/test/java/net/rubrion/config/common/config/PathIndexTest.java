@@ -0,0 +1,88 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.api.config.ConfigSection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import static net.rubrion.config.common.config.TestConfigs.create;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathIndexTest {
+    private static final ConfigOptions INDEXED = ConfigOptions.builder().pathIndex(true).build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void lookupsMatchTheTree() throws Exception {
+        ConfigImpl config = create(dir, "a:\n  b:\n    c: 1\n  d: text\n", INDEXED);
+
+        assertEquals(1, config.getInt("a.b.c", 0));
+        assertEquals(Optional.of("text"), config.get("a.d", String.class));
+        assertEquals(Map.of("c", 1), config.get("a.b", Map.class).orElseThrow());
+        assertFalse(config.get("a.b.c.d", Object.class).isPresent());
+    }
+
+    @Test
+    void sectionSetsCreateIndexedSections() throws Exception {
+        ConfigImpl config = create(dir, "a:\n  x: 1\n", INDEXED);
+        ConfigSection section = config.getFieldSection("a").get();
+
+        section.set("b.c", 2);
+
+        assertEquals(2, config.getInt("a.b.c", 0));
+        assertEquals(Map.of("c", 2), config.get("a.b", Map.class).orElseThrow());
+        assertEquals(1, config.getInt("a.x", 0));
+        assertEquals(Map.of("x", 1, "b", Map.of("c", 2)), config.get("a", Map.class).orElseThrow());
+    }
+
+    @Test
+    void deepSetsCreateEveryLevel() throws Exception {
+        ConfigImpl config = create(dir, "", INDEXED);
+
+        config.set("a.b.c.d", 3);
+
+        assertEquals(3, config.getInt("a.b.c.d", 0));
+        assertTrue(config.get("a.b.c", Map.class).isPresent());
+        assertTrue(config.get("a.b", Map.class).isPresent());
+        assertTrue(config.get("a", Map.class).isPresent());
+    }
+
+    @Test
+    void replacedSectionsDropTheirChildren() throws Exception {
+        ConfigImpl config = create(dir, "a:\n  b:\n    c: 1\n", INDEXED);
+
+        config.set("a", Map.of("d", 2));
+
+        assertFalse(config.get("a.b.c", Object.class).isPresent());
+        assertFalse(config.get("a.b", Object.class).isPresent());
+        assertEquals(2, config.getInt("a.d", 0));
+    }
+
+    @Test
+    void reloadRebuildsTheIndex() throws Exception {
+        ConfigImpl config = create(dir, "a:\n  b: 1\n", INDEXED);
+        Files.writeString(config.getPath(), "a:\n  b: 2\n  c: 3\n");
+
+        config.reload();
+
+        assertEquals(2, config.getInt("a.b", 0));
+        assertEquals(3, config.getInt("a.c", 0));
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigSection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static net.rubrion.config.common.config.TestConfigs.create;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveAccessorTest {
+    private static final String DOCUMENT = """
+            int: 42
+            long: 5000000000
+            double: 2.5
+            flag: true
+            text: "17"
+            word: abc
+            section:
+              value: 7
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void numbersAreReadWithoutBoxing() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+
+        assertEquals(42, config.getInt("int", 0));
+        assertEquals(5000000000L, config.getLong("long", 0));
+        assertEquals(2.5, config.getDouble("double", 0));
+        assertEquals(42.0, config.getDouble("int", 0));
+        assertTrue(config.getBoolean("flag", false));
+    }
+
+    @Test
+    void convertibleValuesAreConverted() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+
+        assertEquals(17, config.getInt("text", 0));
+        assertEquals(17L, config.getLong("text", 0));
+    }
+
+    @Test
+    void missingAndInvalidValuesFallBack() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+
+        assertEquals(-1, config.getInt("missing", -1));
+        assertEquals(-1, config.getInt("word", -1));
+        assertEquals(-1L, config.getLong("section", -1));
+        assertEquals(0.5, config.getDouble("missing.deep", 0.5));
+        assertTrue(config.getBoolean("missing", true));
+    }
+
+    @Test
+    void numbersThatDoNotFitFallBack() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+
+        assertEquals(-1, config.getInt("long", -1));
+        assertEquals(-1, config.getInt("double", -1));
+        assertEquals(-1L, config.getLong("double", -1));
+        assertEquals(Optional.empty(), config.get("long", Integer.class));
+        assertEquals(-1, config.snapshot().getInt("long", -1));
+    }
+
+    @Test
+    void sectionsResolveRelativeKeys() throws Exception {
+        ConfigSection section = create(dir, DOCUMENT).getFieldSection("section").get();
+
+        assertEquals(7, section.getInt("value", 0));
+        assertEquals(7L, section.getLong("value", 0));
+        assertEquals(-1, section.getInt("missing", -1));
+    }
+}
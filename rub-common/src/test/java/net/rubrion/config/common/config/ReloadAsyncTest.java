@@ -0,0 +1,143 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.api.exception.ConfigReadException;
+import net.rubrion.config.common.adapter.config.YamlConfigAdapter;
+import net.rubrion.config.common.adapter.type.TypeAdapterRegistryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.rubrion.config.common.config.TestConfigs.open;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReloadAsyncTest {
+    private static final ConfigOptions INDEXED = ConfigOptions.builder().pathIndex(true).build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reloadAsyncPicksUpChanges() throws Exception {
+        Path file = Files.writeString(dir.resolve("config.yml"), "a:\n  b: 1\n");
+        ConfigImpl config = open(file);
+
+        Files.writeString(file, "a:\n  b: 2\n  c: 3\n");
+        config.reloadAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, config.getInt("a.b", 0));
+        assertEquals(3, config.getInt("a.c", 0));
+        config.set("a.d", 4);
+        assertEquals(4, config.getInt("a.d", 0));
+    }
+
+    @Test
+    void failedReloadAsyncKeepsTheCurrentState() throws Exception {
+        Path file = Files.writeString(dir.resolve("config.yml"), "a:\n  b: 1\n");
+        ConfigImpl config = open(file, INDEXED);
+
+        Files.writeString(file, "a: [unclosed\n");
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> config.reloadAsync().get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(ConfigReadException.class, failure.getCause());
+        assertEquals(1, config.getInt("a.b", 0));
+    }
+
+    @Test
+    void failedReloadKeepsTheCurrentState() throws Exception {
+        Path file = Files.writeString(dir.resolve("config.yml"), "a:\n  b: 1\n");
+        ConfigImpl config = open(file, INDEXED);
+
+        Files.writeString(file, "a: [unclosed\n");
+
+        assertThrows(ConfigReadException.class, config::reload);
+        assertEquals(1, config.getInt("a.b", 0));
+    }
+
+    @Test
+    void readersNeverSeeAPartialReload() throws Exception {
+        Path file = Files.writeString(dir.resolve("config.yml"), "a:\n  b: 1\n  c: 1\n");
+        ConfigImpl config = open(file, INDEXED);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger invalid = new AtomicInteger();
+
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                int value = config.getInt("a.b", 0);
+                if (value != 1 && value != 2) {
+                    invalid.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        try {
+            for (int i = 0; i < 50; i++) {
+                Files.writeString(file, "a:\n  b: " + (i % 2 + 1) + "\n  c: " + i + "\n");
+                config.reloadAsync().get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+
+        assertEquals(0, invalid.get());
+    }
+
+    @Test
+    void olderReloadsDoNotReplaceNewerOnes() throws Exception {
+        Path file = Files.writeString(dir.resolve("config.yml"), "a:\n  b: 1\n");
+        CountDownLatch parsing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        YamlConfigAdapter adapter = new YamlConfigAdapter() {
+            @Override
+            public Map<String, Object> read(String content) throws IOException {
+                if (Thread.currentThread().getName().equals("rub-config-reload")) {
+                    threads.add(Thread.currentThread().getName());
+                    parsing.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.read(content);
+            }
+        };
+        ConfigImpl config = new ConfigImpl(file, adapter, new TypeAdapterRegistryImpl());
+
+        Files.writeString(file, "a:\n  b: 2\n");
+        CompletableFuture<Void> stale = config.reloadAsync();
+        assertTrue(parsing.await(5, TimeUnit.SECONDS));
+        Files.writeString(file, "a:\n  b: 3\n");
+        config.reload();
+        release.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, config.getInt("a.b", 0));
+        assertEquals(List.of("rub-config-reload"), threads);
+    }
+}
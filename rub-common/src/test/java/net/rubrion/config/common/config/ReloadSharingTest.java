@@ -0,0 +1,79 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigPath;
+import net.rubrion.config.api.field.IntField;
+import net.rubrion.config.common.adapter.config.YamlConfigAdapter;
+import net.rubrion.config.common.adapter.type.TypeAdapterRegistryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReloadSharingTest {
+    private final YamlConfigAdapter adapter = new YamlConfigAdapter();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void unchangedSubtreesKeepTheirInstances() throws Exception {
+        Map<String, Object> previous = adapter.read("a:\n  b: 1\nc:\n  d: 2\n");
+        Map<String, Object> loaded = adapter.read("a:\n  b: 1\nc:\n  d: 3\n");
+        List<ConfigPath> changed = new ArrayList<>();
+
+        Map<String, Object> merged = ConfigNodes.reuseRoot(previous, loaded, changed);
+
+        assertSame(previous.get("a"), merged.get("a"));
+        assertNotSame(previous.get("c"), merged.get("c"));
+        assertEquals(loaded, merged);
+        assertEquals(List.of(ConfigPath.of("c.d")), changed);
+    }
+
+    @Test
+    void unchangedTreesYieldThePreviousRoot() throws Exception {
+        Map<String, Object> previous = adapter.read("a:\n  b: 1\n");
+        List<ConfigPath> changed = new ArrayList<>();
+
+        assertSame(previous, ConfigNodes.reuseRoot(previous, adapter.read("a:\n  b: 1\n"), changed));
+        assertTrue(changed.isEmpty());
+    }
+
+    @Test
+    void addedAndRemovedKeysAreReported() throws Exception {
+        Map<String, Object> previous = adapter.read("a: 1\nb: 2\n");
+        List<ConfigPath> changed = new ArrayList<>();
+
+        ConfigNodes.reuseRoot(previous, adapter.read("a: 1\nc: 3\n"), changed);
+
+        assertEquals(Set.of(ConfigPath.of("b"), ConfigPath.of("c")), new HashSet<>(changed));
+    }
+
+    @Test
+    void reloadKeepsUnchangedSectionsAndRefreshesChangedOnes() throws Exception {
+        Path file = Files.writeString(dir.resolve("config.yml"), "a:\n  b: 1\nc:\n  d: 2\n");
+        ConfigImpl config = new ConfigImpl(file, adapter, new TypeAdapterRegistryImpl());
+        Map<?, ?> section = config.get("a", Map.class).orElseThrow();
+        IntField field = config.getIntField("c.d", 0);
+
+        Files.writeString(file, "a:\n  b: 1\nc:\n  d: 5\n");
+        config.reload();
+
+        assertSame(section, config.get("a", Map.class).orElseThrow());
+        assertEquals(5, field.getAsInt());
+        assertEquals(5, config.getInt("c.d", 0));
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.common.adapter.config.JsonConfigAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+
+import static net.rubrion.config.common.config.TestConfigs.open;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingWriteTest {
+    private static final ConfigOptions STREAMING = ConfigOptions.builder().streamingWrites(true).build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void streamedDocumentMatchesTheStringDocument() throws Exception {
+        JsonConfigAdapter adapter = new JsonConfigAdapter();
+        Map<String, Object> data = Map.of("list", List.of(1L, 2L), "text", "a \"quoted\" value");
+        StringWriter out = new StringWriter();
+
+        adapter.write("", data, out);
+
+        assertEquals(adapter.write("", data), out.toString());
+    }
+
+    @Test
+    void streamedConfigRoundTrips() {
+        Path file = dir.resolve("config.json");
+        ConfigImpl config = open(file, new JsonConfigAdapter(), STREAMING);
+        config.set("a.b", 1);
+        config.set("c", "text");
+
+        ConfigImpl reloaded = open(file, new JsonConfigAdapter(), STREAMING);
+
+        assertEquals(1, reloaded.getInt("a.b", 0));
+        assertEquals("text", reloaded.getOr("c", String.class, null));
+    }
+
+    @Test
+    void unchangedDocumentIsNotReplaced() throws Exception {
+        Path file = dir.resolve("config.json");
+        ConfigImpl config = open(file, new JsonConfigAdapter(), STREAMING);
+        config.set("a", 1);
+        Object key = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+
+        config.save();
+
+        assertEquals(key, Files.readAttributes(file, BasicFileAttributes.class).fileKey());
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.adapter.ConfigAdapter;
+import net.rubrion.config.api.adapter.TypeAdapterRegistry;
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.common.adapter.config.YamlConfigAdapter;
+import net.rubrion.config.common.adapter.type.TypeAdapterRegistryImpl;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Opens the configs the tests work on. Unless stated otherwise they are YAML files
+ * opened with the default type adapters, no flusher and no I/O scheduler.
+ */
+public final class TestConfigs {
+    private TestConfigs() {
+    }
+
+    /**
+     * Writes the content to a config.yml in the directory and opens it.
+     */
+    public static ConfigImpl create(Path dir, String content) throws IOException {
+        return create(dir, content, ConfigOptions.defaults());
+    }
+
+    public static ConfigImpl create(Path dir, String content, ConfigOptions options) throws IOException {
+        return open(Files.writeString(dir.resolve("config.yml"), content), options);
+    }
+
+    public static ConfigImpl create(Path dir, String content, TypeAdapterRegistry registry) throws IOException {
+        Path file = Files.writeString(dir.resolve("config.yml"), content);
+        return new ConfigImpl(file, new YamlConfigAdapter(), registry);
+    }
+
+    public static ConfigImpl open(Path file) {
+        return open(file, ConfigOptions.defaults());
+    }
+
+    public static ConfigImpl open(Path file, ConfigOptions options) {
+        return open(file, options, null);
+    }
+
+    public static ConfigImpl open(Path file, ConfigOptions options, @Nullable ConfigFlusher flusher) {
+        return new ConfigImpl(file, new YamlConfigAdapter(), new TypeAdapterRegistryImpl(), options, flusher, null);
+    }
+
+    public static ConfigImpl open(Path file, ConfigAdapter adapter, ConfigOptions options) {
+        return new ConfigImpl(file, adapter, new TypeAdapterRegistryImpl(), options, null, null);
+    }
+
+    public static ConfigImpl open(Path file, KeyPool pool) {
+        return new ConfigImpl(file, new YamlConfigAdapter(), new TypeAdapterRegistryImpl(), ConfigOptions.defaults(),
+                null, null, pool);
+    }
+}
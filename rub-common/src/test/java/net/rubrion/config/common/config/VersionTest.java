@@ -0,0 +1,159 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.api.config.ConfigPath;
+import net.rubrion.config.api.field.IntField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static net.rubrion.config.common.config.TestConfigs.create;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionTest {
+    private static final String DOCUMENT = "server:\n  port: 8080\nname: test\ncounter: 0\n";
+    private static final ConfigOptions CONCURRENT = ConfigOptions.builder().concurrent(true).build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void siblingsKeepTheirVersion() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+        ConfigPath port = ConfigPath.of("server.port");
+        ConfigPath server = ConfigPath.of("server");
+        long portVersion = config.getVersion(port);
+        long serverVersion = config.getVersion(server);
+
+        config.set("server.host", "example.org");
+
+        assertEquals(portVersion, config.getVersion(port));
+        assertNotEquals(serverVersion, config.getVersion(server));
+    }
+
+    @Test
+    void replacingASectionMovesTheVersionsBelowIt() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+        ConfigPath port = ConfigPath.of("server.port");
+        long version = config.getVersion(port);
+
+        config.set("server", Map.of("port", 1));
+
+        assertNotEquals(version, config.getVersion(port));
+        assertEquals(1, config.getInt(port, 0));
+    }
+
+    @Test
+    void siblingUpdatesDoNotConflict() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT, CONCURRENT);
+        ConfigPath port = ConfigPath.of("server.port");
+        long version = config.getVersion(port);
+
+        config.set("server.host", "example.org");
+
+        assertTrue(config.setIfVersion(port, version, 9090));
+        assertEquals(9090, config.getInt(port, 0));
+        assertEquals("example.org", config.get("server.host", String.class).orElse(null));
+    }
+
+    @Test
+    void reloadMovesOnlyTheVersionsOfChangedPaths() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+        ConfigPath port = ConfigPath.of("server.port");
+        ConfigPath name = ConfigPath.of("name");
+        long portVersion = config.getVersion(port);
+        long nameVersion = config.getVersion(name);
+
+        Files.writeString(dir.resolve("config.yml"), "server:\n  port: 9090\nname: test\ncounter: 0\n");
+        config.reload();
+
+        assertNotEquals(portVersion, config.getVersion(port));
+        assertEquals(nameVersion, config.getVersion(name));
+    }
+
+    @Test
+    void reloadWithoutChangesKeepsEveryVersion() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+        ConfigPath port = ConfigPath.of("server.port");
+        config.set(port, 1);
+        long version = config.getVersion(port);
+
+        config.reload();
+
+        assertEquals(version, config.getVersion(port));
+        assertEquals(1, config.getInt(port, 0));
+    }
+
+    @Test
+    void staleVersionsAreRejected() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+        ConfigPath port = ConfigPath.of("server.port");
+        long version = config.getVersion(port);
+        config.set(port, 1);
+
+        assertFalse(config.setIfVersion(port, version, 2));
+        assertTrue(config.setIfVersion(port, config.getVersion(port), 3));
+        assertEquals(3, config.getInt(port, 0));
+    }
+
+    @Test
+    void compareAndSetChecksTheCurrentValue() throws Exception {
+        ConfigImpl config = create(dir, DOCUMENT);
+        IntField port = config.getIntField("server.port", 0);
+
+        assertFalse(port.compareAndSet(Integer.valueOf(1), Integer.valueOf(2)));
+        assertTrue(port.compareAndSet(Integer.valueOf(8080), Integer.valueOf(9090)));
+        assertEquals(9090, port.getAsInt());
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws Exception {
+        assertUpdatesAreNotLost(create(dir, DOCUMENT));
+    }
+
+    @Test
+    void concurrentUpdatesAreNotLostInConcurrentMode() throws Exception {
+        assertUpdatesAreNotLost(create(dir, DOCUMENT, CONCURRENT));
+    }
+
+    private void assertUpdatesAreNotLost(ConfigImpl config) throws Exception {
+        IntField counter = config.getIntField("counter", 0);
+        IntField port = config.getIntField("server.port", 0);
+        int threads = 4;
+        int increments = 250;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            IntField field = i % 2 == 0 ? counter : port;
+            Thread worker = new Thread(() -> {
+                for (int j = 0; j < increments; j++) {
+                    field.updateAndGet(value -> value + 1);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads / 2 * increments, counter.getAsInt());
+        assertEquals(threads / 2 * increments, config.getInt("counter", 0));
+        assertEquals(8080 + threads / 2 * increments, config.getInt("server.port", 0));
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.config;
+
+import net.rubrion.config.api.config.ConfigOptions;
+import net.rubrion.config.common.adapter.config.YamlConfigAdapter;
+import net.rubrion.config.common.adapter.type.TypeAdapterRegistryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static net.rubrion.config.common.config.TestConfigs.open;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindTest {
+    private final ConfigFlusher flusher = new ConfigFlusher();
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void shutdown() {
+        flusher.shutdown();
+    }
+
+    @Test
+    void setsAreWrittenOnFlush() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = open(file, ConfigOptions.builder().writeBehind(Duration.ofHours(1), 1000).build(), flusher);
+        String initial = Files.readString(file);
+
+        config.set("a", 1);
+        config.set("b", 2);
+        assertEquals(initial, Files.readString(file));
+
+        flusher.flushAll();
+        ConfigImpl reloaded = open(file);
+        assertEquals(1, reloaded.getInt("a", 0));
+        assertEquals(2, reloaded.getInt("b", 0));
+    }
+
+    @Test
+    void reachingMaxChangesFlushesEarly() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = open(file, ConfigOptions.builder().writeBehind(Duration.ofHours(1), 3).build(), flusher);
+
+        config.set("a", 1);
+        config.set("b", 2);
+        config.set("c", 3);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!Files.readString(file).contains("c: 3") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.readString(file).contains("c: 3"));
+    }
+
+    @Test
+    void reloadKeepsPendingChanges() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = open(file, ConfigOptions.builder().writeBehind(Duration.ofHours(1), 1000).build(), flusher);
+
+        config.set("a", 1);
+        config.reload();
+
+        assertEquals(1, config.getInt("a", 0));
+        assertTrue(Files.readString(file).contains("a: 1"));
+    }
+
+    @Test
+    void reloadAsyncKeepsPendingChanges() throws Exception {
+        Path file = dir.resolve("config.yml");
+        ConfigImpl config = open(file, ConfigOptions.builder().writeBehind(Duration.ofHours(1), 1000).build(), flusher);
+
+        config.set("a", 1);
+        config.reloadAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, config.getInt("a", 0));
+    }
+
+    @Test
+    void writeBehindRequiresFlusher() {
+        assertThrows(IllegalArgumentException.class, () -> new ConfigImpl(dir.resolve("config.yml"),
+                new YamlConfigAdapter(), new TypeAdapterRegistryImpl(),
+                ConfigOptions.builder().writeBehind(Duration.ofSeconds(1), 10).build(), null, null));
+    }
+}
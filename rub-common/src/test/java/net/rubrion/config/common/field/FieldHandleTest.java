@@ -0,0 +1,87 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.field;
+
+import net.rubrion.config.api.field.Field;
+import net.rubrion.config.api.field.FieldList;
+import net.rubrion.config.api.field.FieldSection;
+import net.rubrion.config.common.config.ConfigImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static net.rubrion.config.common.config.TestConfigs.create;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldHandleTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void handlesAreEqualByConfigPathAndType() throws Exception {
+        ConfigImpl config = create(dir, "a: 1\n");
+        ConfigImpl other = create(Files.createTempDirectory(dir, "other"), "a: 1\n");
+
+        assertEquals(config.getField("a", Integer.class), config.getField("a", Integer.class));
+        assertEquals(config.getField("a", Integer.class).hashCode(), config.getField("a", Integer.class).hashCode());
+        assertNotEquals(config.getField("a", Integer.class), config.getField("a", String.class));
+        assertNotEquals(config.getField("a", Integer.class), config.getField("b", Integer.class));
+        assertNotEquals(config.getField("a", Integer.class), other.getField("a", Integer.class));
+        assertEquals(config.getFieldList("l", String.class), config.getFieldList("l", String.class));
+        assertEquals(config.getFieldSection("s"), config.getFieldSection("s"));
+        assertEquals(1, new HashSet<>(List.of(config.getFieldSection("s"), config.getFieldSection("s"))).size());
+    }
+
+    @Test
+    void resolvedValuesAreCachedUntilTheConfigChanges() throws Exception {
+        ConfigImpl config = create(dir, "a:\n  b: 1\n");
+        Field<Map> field = config.getField("a", Map.class);
+        Map<?, ?> first = field.get();
+
+        assertSame(first, field.get());
+
+        config.set("c", 2);
+        assertEquals(first, field.get());
+
+        config.set("a.b", 3);
+        assertEquals(Map.of("b", 3), field.get());
+    }
+
+    @Test
+    void listHandlesAddAndRemove() throws Exception {
+        ConfigImpl config = create(dir, "list:\n  - a\n");
+        FieldList<String> list = config.getFieldList("list", String.class);
+
+        list.add("b");
+        list.remove("a");
+
+        assertEquals(List.of("b"), list.get());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void sectionHandlesFollowTheConfig() throws Exception {
+        ConfigImpl config = create(dir, "");
+        FieldSection section = config.getFieldSection("s");
+        assertFalse(section.exists());
+
+        config.set("s.value", 1);
+
+        assertTrue(section.exists());
+        assertEquals(1, section.get().getInt("value", 0));
+    }
+}
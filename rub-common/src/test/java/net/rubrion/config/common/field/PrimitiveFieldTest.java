@@ -0,0 +1,124 @@
+/**
+ * RPL-LICENSE NOTICE
+ * <br><br>
+ * This Sourcecode is under the RPL-LICENSE. <br>
+ * License at: <a href="https://github.com/rubrionmc/.github/blob/main/licensens/RUBRION_PUBLIC">GITHUB</a>
+ * <br><br>
+ * Copyright (c) LeyCM <leycm@proton.me> <br>
+ * Copyright (c) maintainers <br>
+ * Copyright (c) contributors
+ */
+package net.rubrion.config.common.field;
+
+import net.rubrion.config.api.field.BooleanField;
+import net.rubrion.config.api.field.DoubleField;
+import net.rubrion.config.api.field.IntField;
+import net.rubrion.config.api.field.LongField;
+import net.rubrion.config.common.config.ConfigImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static net.rubrion.config.common.config.TestConfigs.create;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveFieldTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void fieldsReadTheBoundValue() throws Exception {
+        ConfigImpl config = create(dir, "a: 1\nb: 5000000000\nc: 0.5\nd: true\n");
+
+        IntField a = config.getIntField("a", -1);
+        LongField b = config.getLongField("b", -1);
+        DoubleField c = config.getDoubleField("c", -1);
+        BooleanField d = config.getBooleanField("d", false);
+
+        assertEquals(1, a.getAsInt());
+        assertEquals(5000000000L, b.getAsLong());
+        assertEquals(0.5, c.getAsDouble());
+        assertTrue(d.getAsBoolean());
+        assertTrue(a.exists());
+    }
+
+    @Test
+    void missingValuesUseTheDefault() throws Exception {
+        ConfigImpl config = create(dir, "");
+
+        IntField field = config.getIntField("missing", 7);
+
+        assertEquals(7, field.getAsInt());
+        assertFalse(field.exists());
+        assertNull(field.get());
+        assertEquals(Integer.valueOf(3), field.getOr(3));
+    }
+
+    @Test
+    void valuesAreConvertedOrRejected() throws Exception {
+        ConfigImpl config = create(dir, "text: \"12\"\nbig: 5000000000\nfraction: 1.5\nflag: \"true\"\n");
+
+        IntField text = config.getIntField("text", -1);
+        IntField big = config.getIntField("big", -1);
+        LongField fraction = config.getLongField("fraction", -1);
+        BooleanField flag = config.getBooleanField("flag", false);
+
+        assertEquals(12, text.getAsInt());
+        assertTrue(text.exists());
+        assertEquals(-1, big.getAsInt());
+        assertFalse(big.exists());
+        assertNull(big.get());
+        assertEquals(-1L, fraction.getAsLong());
+        assertTrue(flag.getAsBoolean());
+    }
+
+    @Test
+    void valueAndPresenceChangeTogether() throws Exception {
+        ConfigImpl config = create(dir, "a: 1\n");
+        IntField field = config.getIntField("a", -1);
+
+        config.set("a", "abc");
+        assertEquals(-1, field.getAsInt());
+        assertNull(field.get());
+
+        config.set("a", 4);
+        assertEquals(Integer.valueOf(4), field.get());
+        assertTrue(field.exists());
+    }
+
+    @Test
+    void fieldsFollowSets() throws Exception {
+        ConfigImpl config = create(dir, "a:\n  b: 1\n");
+        IntField field = config.getIntField("a.b", -1);
+
+        config.set("a.b", 2);
+        assertEquals(2, field.getAsInt());
+
+        config.set("a", new HashMap<>(Map.of("b", 3)));
+        assertEquals(3, field.getAsInt());
+
+        field.set(4);
+        assertEquals(4, field.getAsInt());
+        assertEquals(4, config.getInt("a.b", 0));
+
+        config.set("a", "scalar");
+        assertEquals(-1, field.getAsInt());
+        assertFalse(field.exists());
+    }
+
+    @Test
+    void fieldsFollowReloads() throws Exception {
+        ConfigImpl config = create(dir, "a: 1\n");
+        IntField field = config.getIntField("a", -1);
+
+        Files.writeString(config.getPath(), "a: 9\n");
+        config.reload();
+
+        assertEquals(9, field.getAsInt());
+    }
+}